@@ -0,0 +1,150 @@
+package com.lancaster.musicapp;
+
+import java.security.SecureRandom;
+import java.sql.*;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Booking - A booking of the venue, and how it is stored in the database
+ */
+public class Booking {
+    private String bookingID;
+    private String customerBooked;
+    private String paymentType;
+    private String ticketsBooked;
+    private Date bookingDate;
+    private String rowsHeld;
+    private int totalCost;
+
+    // Last booking ID handed out, so IDs stay unique when bookings are made in the same millisecond
+    private static final AtomicLong lastID = new AtomicLong();
+
+    // Random for each process, so instances sharing the database do not hand out the same ID
+    private static final String INSTANCE_SUFFIX = newInstanceSuffix();
+
+    public Booking(String bookingID, String customerBooked, String paymentType, String ticketsBooked, Date bookingDate, String rowsHeld, int totalCost) {
+        this.bookingID = bookingID;
+        this.customerBooked = customerBooked;
+        this.paymentType = paymentType;
+        this.ticketsBooked = ticketsBooked;
+        this.bookingDate = bookingDate;
+        this.rowsHeld = rowsHeld;
+        this.totalCost = totalCost;
+    }
+
+    /**
+     * Create a booking ID, unique within this process and increasing with time. The
+     * suffix tells apart IDs made in the same millisecond by other instances.
+     * @return An ID such as BK1739455200000-K3F9
+     */
+    public static String newBookingID() {
+        long now = System.currentTimeMillis();
+        return "BK" + lastID.updateAndGet(last -> Math.max(last + 1, now)) + "-" + INSTANCE_SUFFIX;
+    }
+
+    /**
+     * Pick four random base 36 characters, from 1.6 million choices
+     */
+    private static String newInstanceSuffix() {
+        int value = new SecureRandom().nextInt(36 * 36 * 36 * 36);
+        StringBuilder suffix = new StringBuilder();
+        for (int i = 0; i < 4; i++) {
+            suffix.append(Character.toUpperCase(Character.forDigit(value % 36, 36)));
+            value /= 36;
+        }
+        return suffix.toString();
+    }
+
+    // Getters and setters
+    public String getBookingID() { return bookingID; }
+    public void setBookingID(String bookingID) { this.bookingID = bookingID; }
+
+    public String getCustomerBooked() { return customerBooked; }
+    public void setCustomerBooked(String customerBooked) { this.customerBooked = customerBooked; }
+
+    public String getPaymentType() { return paymentType; }
+    public void setPaymentType(String paymentType) { this.paymentType = paymentType; }
+
+    public String getTicketsBooked() { return ticketsBooked; }
+    public void setTicketsBooked(String ticketsBooked) { this.ticketsBooked = ticketsBooked; }
+
+    public Date getBookingDate() { return bookingDate; }
+    public void setBookingDate(Date bookingDate) { this.bookingDate = bookingDate; }
+
+    public String getRowsHeld() { return rowsHeld; }
+    public void setRowsHeld(String rowsHeld) { this.rowsHeld = rowsHeld; }
+
+    public int getTotalCost() { return totalCost; }
+    public void setTotalCost(int totalCost) { this.totalCost = totalCost; }
+
+    @Override
+    public String toString() {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("MMMM d, yyyy");
+        return "Booking: " + customerBooked + " (" + paymentType + "), " +
+               dateFormat.format(bookingDate) + ", " + ticketsBooked;
+    }
+
+    /**
+     * Store this booking in the database, with the status Pending, in the background
+     * @return A future completed with true if the booking was added successfully, false otherwise
+     */
+    public CompletableFuture<Boolean> save() {
+        // SQL query to insert a new booking into the database
+        String query = "INSERT INTO BOOKINGS (BOOKING_ID, CUSTOMER_BOOKED, PAYMENT_TYPE, " +
+                "TICKETS_BOOKED, BOOKING_DATE, ROWSHELD, TOTAL_COST, STATUS) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+        return Database.submit(conn -> {
+            try (PreparedStatement ps = conn.prepareStatement(query)) {
+                // Set the parameters for the PreparedStatement
+                ps.setString(1, bookingID);
+                ps.setString(2, customerBooked);
+                ps.setString(3, paymentType);
+                ps.setString(4, ticketsBooked);
+                ps.setDate(5, new java.sql.Date(bookingDate.getTime()));  // Convert to java.sql.Date
+                ps.setString(6, rowsHeld);
+                ps.setInt(7, totalCost);
+                ps.setString(8, "Pending");  // Default status is Pending
+
+                // Execute the update (which will insert the booking)
+                return ps.executeUpdate() > 0;
+            }
+        }).exceptionally(e -> {
+            e.printStackTrace();  // Handle exceptions properly in production
+            return false;
+        });
+    }
+
+    /**
+     * Load a booking from the database in the background
+     * @param bookingID The ID of the booking to load
+     * @return A future completed with the booking, or null if there is no such booking.
+     *         It completes exceptionally if the database could not be read.
+     */
+    public static CompletableFuture<Booking> loadSpecificBooking(String bookingID) {
+        String query = "SELECT * FROM BOOKINGS WHERE BOOKING_ID = ?";
+
+        return Database.submit(conn -> {
+            try (PreparedStatement ps = conn.prepareStatement(query)) {
+                ps.setString(1, bookingID);
+                ResultSet rs = ps.executeQuery();
+
+                if (!rs.next()) {
+                    return null;
+                }
+                return new Booking(
+                    rs.getString("BOOKING_ID"),
+                    rs.getString("CUSTOMER_BOOKED"),
+                    rs.getString("PAYMENT_TYPE"),
+                    rs.getString("TICKETS_BOOKED"),
+                    rs.getDate("BOOKING_DATE"),
+                    rs.getString("ROWSHELD"),
+                    rs.getInt("TOTAL_COST")
+                );
+            }
+        });
+    }
+}
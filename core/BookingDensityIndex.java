@@ -0,0 +1,233 @@
+package com.lancaster.musicapp;
+
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+
+/**
+ * BookingDensityIndex - A singleton index of booking totals per day
+ * Month aggregates are computed off the Event Dispatch Thread and cached per month.
+ * The index follows BookingManager's booking feed and drops only the months touched by a change.
+ */
+public class BookingDensityIndex {
+    // Capacity used to shade a day when no venue is given (the Main Hall)
+    public static final int DEFAULT_CAPACITY = 500;
+
+    private static BookingDensityIndex instance;
+
+    private final Map<YearMonth, CompletableFuture<MonthDensity>> months = new ConcurrentHashMap<>();
+    private final PropertyChangeSupport changeSupport = new PropertyChangeSupport(this);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "booking-density");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Private constructor for singleton pattern
+    private BookingDensityIndex() {
+        BookingManager.getInstance().getBookingFeed().subscribe(new Flow.Subscriber<BookingFeed.Event>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                // Invalidating is cheap, so take every event as it comes
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(BookingFeed.Event event) {
+                if (event.getBooking() == null) {
+                    invalidateAll();
+                    return;
+                }
+                YearMonth month = monthOf(event.getBooking().getBookingDate());
+                invalidate(month);
+                if (event.getPrevious() != null) {
+                    // A booking moved to another date leaves its old month as well
+                    YearMonth previousMonth = monthOf(event.getPrevious().getBookingDate());
+                    if (!Objects.equals(previousMonth, month)) {
+                        invalidate(previousMonth);
+                    }
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                throwable.printStackTrace();
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+    }
+
+    /**
+     * Get the singleton instance of BookingDensityIndex
+     */
+    public static synchronized BookingDensityIndex getInstance() {
+        if (instance == null) {
+            instance = new BookingDensityIndex();
+        }
+        return instance;
+    }
+
+    /**
+     * Get the aggregate for a month, computing it in the background if it is not cached
+     * @param month The month to aggregate
+     * @return A future completed with the month's totals
+     */
+    public CompletableFuture<MonthDensity> getMonth(YearMonth month) {
+        return months.computeIfAbsent(month,
+            key -> CompletableFuture.supplyAsync(() -> compute(key), executor));
+    }
+
+    /**
+     * Get the aggregate for a month only if it has already been computed
+     * @param month The month to look up
+     * @return The cached totals, or null if they are not ready
+     */
+    public MonthDensity getMonthIfReady(YearMonth month) {
+        CompletableFuture<MonthDensity> future = months.get(month);
+        return future != null && future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    /**
+     * Listen for months whose totals have changed. The event's new value is the
+     * YearMonth that changed, or null when every month changed.
+     * @param listener The listener to add
+     */
+    public void addMonthChangeListener(PropertyChangeListener listener) {
+        changeSupport.addPropertyChangeListener("month", listener);
+    }
+
+    /**
+     * Stop listening for month changes
+     * @param listener The listener to remove
+     */
+    public void removeMonthChangeListener(PropertyChangeListener listener) {
+        changeSupport.removePropertyChangeListener("month", listener);
+    }
+
+    /**
+     * Drop the cached totals for one month
+     */
+    private void invalidate(YearMonth month) {
+        if (month == null) {
+            invalidateAll();
+            return;
+        }
+        months.remove(month);
+        changeSupport.firePropertyChange("month", null, month);
+    }
+
+    /**
+     * Drop all cached totals
+     */
+    private void invalidateAll() {
+        months.clear();
+        changeSupport.firePropertyChange("month", null, null);
+    }
+
+    /**
+     * Add up the bookings for every day of a month
+     */
+    private MonthDensity compute(YearMonth month) {
+        MonthDensity density = new MonthDensity(month);
+        List<BookingManager.BookingEntry> bookings = BookingManager.getInstance().getAllBookings();
+
+        for (BookingManager.BookingEntry booking : bookings) {
+            LocalDate date = dateOf(booking.getBookingDate());
+            if (date == null || !YearMonth.from(date).equals(month) || "Denied".equals(booking.getStatus())) {
+                continue;
+            }
+
+            int day = date.getDayOfMonth() - 1;
+            density.attendees[day] += parseAttendees(booking.getTicketsBooked());
+            if ("Approved".equals(booking.getStatus())) {
+                density.approved[day]++;
+            } else {
+                density.pending[day]++;
+            }
+        }
+
+        return density;
+    }
+
+    /**
+     * Get the month a booking date falls in
+     */
+    static YearMonth monthOf(java.util.Date date) {
+        LocalDate localDate = dateOf(date);
+        return localDate != null ? YearMonth.from(localDate) : null;
+    }
+
+    /**
+     * Convert a booking date to a LocalDate. Works for java.sql.Date as well,
+     * which does not support toInstant().
+     */
+    static LocalDate dateOf(java.util.Date date) {
+        if (date == null) {
+            return null;
+        }
+        return Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    /**
+     * Read the attendee count from a tickets string such as "50 attendees"
+     */
+    static int parseAttendees(String ticketsBooked) {
+        if (ticketsBooked == null) {
+            return 0;
+        }
+        int value = 0;
+        for (int i = 0; i < ticketsBooked.length(); i++) {
+            char c = ticketsBooked.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+            } else if (!Character.isWhitespace(c) || value > 0) {
+                break;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * MonthDensity - Booking totals for each day of one month
+     */
+    public static class MonthDensity {
+        private final YearMonth month;
+        private final int[] attendees;
+        private final int[] pending;
+        private final int[] approved;
+
+        MonthDensity(YearMonth month) {
+            this.month = month;
+            this.attendees = new int[month.lengthOfMonth()];
+            this.pending = new int[month.lengthOfMonth()];
+            this.approved = new int[month.lengthOfMonth()];
+        }
+
+        // Getters, days are 1-based
+        public YearMonth getMonth() { return month; }
+        public int getAttendees(int day) { return attendees[day - 1]; }
+        public int getPendingCount(int day) { return pending[day - 1]; }
+        public int getApprovedCount(int day) { return approved[day - 1]; }
+
+        /**
+         * Get how full a day is, from 0.0 (no bookings) to 1.0 (at or over capacity)
+         */
+        public float getLoad(int day, int capacity) {
+            return Math.min(1.0f, (float) attendees[day - 1] / Math.max(1, capacity));
+        }
+    }
+}
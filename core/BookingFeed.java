@@ -0,0 +1,234 @@
+package com.lancaster.musicapp;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BookingFeed - A Flow.Publisher of changes to the bookings held by BookingManager
+ * Each subscriber gets events only as fast as it requests them, on a background
+ * thread, never more than one at a time. Events a subscriber has not requested yet
+ * wait in its own bounded buffer, so a slow subscriber never holds up the code that
+ * changes bookings. If the buffer overflows, what it holds is replaced by one RELOADED
+ * event, telling the subscriber to read all bookings again.
+ */
+public class BookingFeed implements Flow.Publisher<BookingFeed.Event> {
+    // Events buffered for a subscriber before they are collapsed into a RELOADED event
+    public static final int DEFAULT_BUFFER_SIZE = 256;
+
+    /**
+     * Kinds of change
+     */
+    public enum Type {
+        // A booking was added
+        ADDED,
+        // A booking's details or status changed
+        UPDATED,
+        // Any booking may have changed; read them all again
+        RELOADED
+    }
+
+    private final List<FeedSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Executor executor;
+    private final int bufferSize;
+
+    public BookingFeed() {
+        this(VirtualThreads.newExecutor("booking-feed", 2), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param executor Runs the subscribers' callbacks
+     * @param bufferSize Events buffered for each subscriber
+     */
+    public BookingFeed(Executor executor, int bufferSize) {
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Event> subscriber) {
+        FeedSubscription subscription = new FeedSubscription(subscriber);
+        subscriptions.add(subscription);
+        subscription.schedule();
+    }
+
+    /**
+     * Send an event to every subscriber. Never blocks.
+     * @param event The change
+     */
+    public void publish(Event event) {
+        for (FeedSubscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Event - A change to the bookings
+     */
+    public static final class Event {
+        private static final Event RELOADED = new Event(Type.RELOADED, null, null);
+
+        private final Type type;
+        private final BookingManager.BookingEntry booking;
+        private final BookingManager.BookingEntry previous;
+
+        private Event(Type type, BookingManager.BookingEntry booking, BookingManager.BookingEntry previous) {
+            this.type = type;
+            this.booking = booking;
+            this.previous = previous;
+        }
+
+        public static Event added(BookingManager.BookingEntry booking) {
+            return new Event(Type.ADDED, booking, null);
+        }
+
+        /**
+         * @param booking The booking as it is now
+         * @param previous The entry it replaced
+         */
+        public static Event updated(BookingManager.BookingEntry booking, BookingManager.BookingEntry previous) {
+            return new Event(Type.UPDATED, booking, previous);
+        }
+
+        public static Event reloaded() {
+            return RELOADED;
+        }
+
+        public Type getType() { return type; }
+
+        // The booking that was added or changed, or null for RELOADED
+        public BookingManager.BookingEntry getBooking() { return booking; }
+
+        // The booking as it was before an UPDATED change, otherwise null
+        public BookingManager.BookingEntry getPrevious() { return previous; }
+
+        @Override
+        public String toString() {
+            return type + (booking != null ? " " + booking.getBookingId() : "");
+        }
+    }
+
+    /**
+     * FeedSubscription - One subscriber's buffer and demand
+     * Callbacks are made by a drain loop that at most one thread runs at a time.
+     */
+    private final class FeedSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super Event> subscriber;
+        private final ArrayDeque<Event> buffer = new ArrayDeque<>();
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+
+        // Guarded by this
+        private long demand;
+        private boolean cancelled;
+        private Throwable error;
+
+        // Only used by the drain loop
+        private boolean subscribed;
+        private boolean terminated;
+
+        FeedSubscription(Flow.Subscriber<? super Event> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        synchronized void offer(Event event) {
+            if (cancelled) {
+                return;
+            }
+            if (event.getType() == Type.RELOADED || buffer.size() >= bufferSize) {
+                // A reload makes every buffered event out of date
+                buffer.clear();
+                buffer.add(Event.reloaded());
+            } else {
+                buffer.add(event);
+            }
+            schedule();
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                if (n <= 0) {
+                    error = new IllegalArgumentException("Requested " + n + " events; must be positive");
+                    cancelled = true;
+                    buffer.clear();
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                buffer.clear();
+            }
+            subscriptions.remove(this);
+        }
+
+        /**
+         * Make sure the drain loop runs, starting it if no thread is running it
+         */
+        void schedule() {
+            if (pendingDrains.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!subscribed) {
+                    subscribed = true;
+                    call(() -> subscriber.onSubscribe(this));
+                }
+                while (!terminated) {
+                    Event event;
+                    Throwable failure;
+                    synchronized (this) {
+                        failure = error;
+                        error = null;
+                        event = failure == null && !cancelled && demand > 0 ? buffer.poll() : null;
+                        if (event != null && demand != Long.MAX_VALUE) {
+                            demand--;
+                        }
+                    }
+                    if (failure != null) {
+                        terminated = true;
+                        subscriptions.remove(this);
+                        call(() -> subscriber.onError(failure));
+                    } else if (event != null) {
+                        call(() -> subscriber.onNext(event));
+                    } else {
+                        break;
+                    }
+                }
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Call the subscriber, cancelling it if it throws, as it must not
+         */
+        private void call(Runnable callback) {
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+                terminated = true;
+                cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package com.lancaster.musicapp;
+
+import java.util.*;
+import java.text.SimpleDateFormat;
+import java.sql.*;
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * BookingManager - A singleton class to manage bookings
+ * This class stores bookings in a data structure and provides methods to approve or deny them
+ */
+public class BookingManager {
+    private static BookingManager instance;
+    private List<BookingEntry> bookings;
+    
+    // Notifies listeners when bookings are added, change status or are reloaded
+    private final PropertyChangeSupport changeSupport = new PropertyChangeSupport(this);
+    
+    // Publishes the same changes to subscribers on background threads, with backpressure
+    private final BookingFeed feed = new BookingFeed();
+    
+    // Changes made while each reload in progress was reading the database, guarded by this.
+    // A reload may have read the table before they were stored, so they are applied again
+    // to what it loaded.
+    private final Set<List<BookingEntry>> changedDuringReloads = Collections.newSetFromMap(new IdentityHashMap<>());
+    
+    // Private constructor for singleton pattern
+    private BookingManager() {
+        bookings = new ArrayList<>();
+    }
+    
+    /**
+     * Get the singleton instance of BookingManager
+     */
+    public static synchronized BookingManager getInstance() {
+        if (instance == null) {
+            instance = new BookingManager();
+        }
+        return instance;
+    }
+    
+    /**
+     * Add a booking to the manager, once it has been stored in the database
+     * @param booking The booking to add
+     */
+    public void addBooking(BookingEntry booking) {
+        synchronized (this) {
+            insertBooking(booking);
+        }
+        changeSupport.firePropertyChange("bookings", null, booking);
+        changeSupport.firePropertyChange("storedBookings", null, booking);
+        feed.publish(BookingFeed.Event.added(booking));
+    }
+    
+    /**
+     * Add or update a booking changed by another instance of the application, which has
+     * already stored it. Listeners and the booking feed are told, but the change is not
+     * stored again or reported to stored change listeners.
+     * @param changed The booking as the other instance holds it
+     */
+    public void applyRemoteChange(BookingEntry changed) {
+        BookingEntry existing;
+        synchronized (this) {
+            existing = findBooking(changed.getBookingId());
+            if (existing == null) {
+                insertBooking(changed);
+            } else {
+                replaceBooking(existing, changed);
+            }
+        }
+        changeSupport.firePropertyChange("bookings", existing, changed);
+        feed.publish(existing != null ? BookingFeed.Event.updated(changed, existing) : BookingFeed.Event.added(changed));
+    }
+    
+    /**
+     * Get all bookings
+     * @return List of all bookings
+     */
+    public synchronized List<BookingEntry> getAllBookings() {
+        return new ArrayList<>(bookings);
+    }
+    
+    /**
+     * Find a booking by ID
+     * @param bookingId The ID of the booking
+     * @return The booking, or null if it is not loaded
+     */
+    public synchronized BookingEntry getBooking(String bookingId) {
+        return findBooking(bookingId);
+    }
+    
+    // Callers hold the lock
+    private BookingEntry findBooking(String bookingId) {
+        for (BookingEntry booking : bookings) {
+            if (booking.getBookingId().equals(bookingId)) {
+                return booking;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Get the live feed of booking changes. Subscribers are called on a background
+     * thread, with only as many events as they have requested.
+     * @return The publisher of booking changes
+     */
+    public Flow.Publisher<BookingFeed.Event> getBookingFeed() {
+        return feed;
+    }
+    
+    /**
+     * Listen for booking changes, on the thread that made the change. The event's new
+     * value is the booking that was added or changed, or null when all bookings were reloaded.
+     * For a change, the old value is the entry it replaced, which may be on another date.
+     * @param listener The listener to add
+     */
+    public void addBookingChangeListener(PropertyChangeListener listener) {
+        changeSupport.addPropertyChangeListener("bookings", listener);
+    }
+    
+    /**
+     * Stop listening for booking changes
+     * @param listener The listener to remove
+     */
+    public void removeBookingChangeListener(PropertyChangeListener listener) {
+        changeSupport.removePropertyChangeListener("bookings", listener);
+    }
+    
+    /**
+     * Listen for bookings added or changed by this instance, once the change is in the
+     * database. The event's new value is the booking. Changes applied with
+     * applyRemoteChange() and reloads are not reported.
+     * @param listener The listener to add
+     */
+    public void addStoredChangeListener(PropertyChangeListener listener) {
+        changeSupport.addPropertyChangeListener("storedBookings", listener);
+    }
+    
+    /**
+     * Stop listening for stored booking changes
+     * @param listener The listener to remove
+     */
+    public void removeStoredChangeListener(PropertyChangeListener listener) {
+        changeSupport.removePropertyChangeListener("storedBookings", listener);
+    }
+    
+    /**
+     * Approve a booking by ID
+     * @param bookingId The ID of the booking to approve
+     * @return A future completed with true once the booking was found, approved and
+     *         stored, or with false if there is no such booking or it could not be stored
+     */
+    public CompletableFuture<Boolean> approveBooking(String bookingId) {
+        return updateStatus(bookingId, "Approved");
+    }
+    
+    /**
+     * Deny a booking by ID
+     * @param bookingId The ID of the booking to deny
+     * @return A future completed with true once the booking was found, denied and
+     *         stored, or with false if there is no such booking or it could not be stored
+     */
+    public CompletableFuture<Boolean> denyBooking(String bookingId) {
+        return updateStatus(bookingId, "Denied");
+    }
+    
+    /**
+     * Set the status of a booking by ID and store it. The change is shown straight away
+     * and undone, with a second update, if it cannot be stored.
+     * @param bookingId The ID of the booking to update
+     * @param status The new status
+     * @return A future completed with true once the booking was stored, or with false
+     *         if it was not found or could not be stored
+     */
+    private CompletableFuture<Boolean> updateStatus(String bookingId, String status) {
+        BookingEntry previous;
+        BookingEntry updated;
+        synchronized (this) {
+            previous = findBooking(bookingId);
+            if (previous == null) {
+                return CompletableFuture.completedFuture(false);
+            }
+            updated = copyWithStatus(previous, status);
+            replaceBooking(previous, updated);
+        }
+        changeSupport.firePropertyChange("bookings", previous, updated);
+        feed.publish(BookingFeed.Event.updated(updated, previous));
+        return updateBookingInDatabase(updated).thenApply(written -> {
+            if (written) {
+                changeSupport.firePropertyChange("storedBookings", null, updated);
+            } else {
+                restoreBooking(updated, previous);
+            }
+            return written;
+        });
+    }
+    
+    /**
+     * Put back a booking whose change could not be stored, unless it has been changed
+     * or reloaded since
+     */
+    private void restoreBooking(BookingEntry failed, BookingEntry previous) {
+        synchronized (this) {
+            if (!bookings.contains(failed)) {
+                return;
+            }
+            replaceBooking(failed, previous);
+        }
+        changeSupport.firePropertyChange("bookings", failed, previous);
+        feed.publish(BookingFeed.Event.updated(previous, failed));
+    }
+    
+    // Callers hold the lock
+    private void insertBooking(BookingEntry booking) {
+        bookings.add(booking);
+        rememberDuringReloads(booking);
+    }
+    
+    // Callers hold the lock. Entries are replaced rather than changed, so an entry handed
+    // to listeners or subscribers never changes under them.
+    private void replaceBooking(BookingEntry existing, BookingEntry replacement) {
+        bookings.set(bookings.indexOf(existing), replacement);
+        rememberDuringReloads(replacement);
+    }
+    
+    // Callers hold the lock
+    private void rememberDuringReloads(BookingEntry booking) {
+        for (List<BookingEntry> changed : changedDuringReloads) {
+            changed.add(booking);
+        }
+    }
+    
+    private static BookingEntry copyWithStatus(BookingEntry booking, String status) {
+        return new BookingEntry(booking.getBookingId(), booking.getCustomerName(), booking.getPaymentType(),
+            booking.getTicketsBooked(), booking.getBookingDate(), booking.getNotes(), booking.getTotalCost(), status);
+    }
+    
+    /**
+     * Update a booking's status in the database, in the background
+     * @param booking The booking to update
+     * @return A future completed with true once the update has been stored, or with
+     *         false if it failed
+     */
+    private CompletableFuture<Boolean> updateBookingInDatabase(BookingEntry booking) {
+        String status = booking.getStatus();
+        return Database.submit(conn -> {
+            try (PreparedStatement ps = conn.prepareStatement(
+                     "UPDATE BOOKINGS SET STATUS = ? WHERE BOOKING_ID = ?")) {
+                
+                ps.setString(1, status);
+                ps.setString(2, booking.getBookingId());
+                return ps.executeUpdate() > 0;
+            }
+        }).exceptionally(e -> {
+            e.printStackTrace();
+            return false;
+        });
+    }
+    
+    /**
+     * Load all bookings from the database, in the background. Bookings added or changed
+     * while the database is read are kept, as the read may have missed them.
+     * @return A future completed when the bookings have been replaced. It completes
+     *         exceptionally if the database could not be read, leaving the bookings as they were.
+     */
+    public CompletableFuture<Void> loadBookingsFromDatabase() {
+        List<BookingEntry> changedMeanwhile = new ArrayList<>();
+        synchronized (this) {
+            changedDuringReloads.add(changedMeanwhile);
+        }
+        return Database.submit(conn -> {
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT * FROM BOOKINGS")) {
+                
+                List<BookingEntry> loaded = new ArrayList<>();
+                
+                while (rs.next()) {
+                    loaded.add(readBooking(rs));
+                }
+                return loaded;
+            }
+        }).whenComplete((loaded, e) -> {
+            synchronized (this) {
+                changedDuringReloads.remove(changedMeanwhile);
+                if (loaded != null) {
+                    for (BookingEntry changed : changedMeanwhile) {
+                        putBooking(loaded, changed);
+                    }
+                    bookings = loaded;
+                }
+            }
+        }).thenAccept(loaded -> {
+            changeSupport.firePropertyChange("bookings", null, null);
+            feed.publish(BookingFeed.Event.reloaded());
+        });
+    }
+    
+    /**
+     * Read one booking from the database, in the background, without adding it to the manager
+     * @param bookingId The ID of the booking
+     * @return A future completed with the booking, status included, or with null if there
+     *         is no such booking. It completes exceptionally if the database could not be read.
+     */
+    public CompletableFuture<BookingEntry> loadBookingFromDatabase(String bookingId) {
+        return Database.submit(conn -> {
+            try (PreparedStatement ps = conn.prepareStatement("SELECT * FROM BOOKINGS WHERE BOOKING_ID = ?")) {
+                ps.setString(1, bookingId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    return rs.next() ? readBooking(rs) : null;
+                }
+            }
+        });
+    }
+    
+    /**
+     * Read the booking at the current row of a BOOKINGS query
+     */
+    private static BookingEntry readBooking(ResultSet rs) throws SQLException {
+        return new BookingEntry(
+            rs.getString("BOOKING_ID"),
+            rs.getString("CUSTOMER_BOOKED"),
+            rs.getString("PAYMENT_TYPE"),
+            rs.getString("TICKETS_BOOKED"),
+            rs.getDate("BOOKING_DATE"),
+            rs.getString("ROWSHELD"),
+            rs.getInt("TOTAL_COST"),
+            rs.getString("STATUS") != null ? rs.getString("STATUS") : "Pending"
+        );
+    }
+    
+    /**
+     * Replace the entry with the same ID in a list of bookings, or add it
+     */
+    private static void putBooking(List<BookingEntry> bookings, BookingEntry booking) {
+        for (int i = 0; i < bookings.size(); i++) {
+            if (bookings.get(i).getBookingId().equals(booking.getBookingId())) {
+                bookings.set(i, booking);
+                return;
+            }
+        }
+        bookings.add(booking);
+    }
+    
+    /**
+     * BookingEntry - A class to represent a booking in the system
+     */
+    public static class BookingEntry {
+        private String bookingId;
+        private String customerName;
+        private String paymentType;
+        private String ticketsBooked;
+        private java.util.Date bookingDate;
+        private String notes;
+        private int totalCost;
+        private String status;
+        
+        public BookingEntry(String bookingId, String customerName, String paymentType, 
+                           String ticketsBooked, java.util.Date bookingDate, String notes, 
+                           int totalCost, String status) {
+            this.bookingId = bookingId;
+            this.customerName = customerName;
+            this.paymentType = paymentType;
+            this.ticketsBooked = ticketsBooked;
+            this.bookingDate = bookingDate;
+            this.notes = notes;
+            this.totalCost = totalCost;
+            this.status = status != null ? status : "Pending";
+        }
+        
+        // Getters and setters
+        public String getBookingId() { return bookingId; }
+        public void setBookingId(String bookingId) { this.bookingId = bookingId; }
+        
+        public String getCustomerName() { return customerName; }
+        public void setCustomerName(String customerName) { this.customerName = customerName; }
+        
+        public String getPaymentType() { return paymentType; }
+        public void setPaymentType(String paymentType) { this.paymentType = paymentType; }
+        
+        public String getTicketsBooked() { return ticketsBooked; }
+        public void setTicketsBooked(String ticketsBooked) { this.ticketsBooked = ticketsBooked; }
+        
+        public java.util.Date getBookingDate() { return bookingDate; }
+        public void setBookingDate(java.util.Date bookingDate) { this.bookingDate = bookingDate; }
+        
+        public String getNotes() { return notes; }
+        public void setNotes(String notes) { this.notes = notes; }
+        
+        public int getTotalCost() { return totalCost; }
+        public void setTotalCost(int totalCost) { this.totalCost = totalCost; }
+        
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+        
+        @Override
+        public String toString() {
+            SimpleDateFormat dateFormat = new SimpleDateFormat("MMMM d, yyyy");
+            return "Booking: " + customerName + " (" + paymentType + "), " +
+                   dateFormat.format(bookingDate) + ", " + ticketsBooked + 
+                   ", Status: " + status;
+        }
+    }
+}
@@ -0,0 +1,587 @@
+package com.lancaster.musicapp;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BookingServer - A headless HTTP API for bookings, backed by BookingManager and Database
+ * Runs without the Swing UI, so web front ends and partner systems can drive the same
+ * bookings as the staff screens. Requests are handled on virtual threads where the JVM
+ * has them, and on a fixed pool of platform threads otherwise. At most maxInFlight
+ * requests are admitted at once; the rest are answered 503 straight away, so a burst
+ * cannot queue without limit.
+ *
+ *   GET  /bookings[?status=Pending]   List bookings
+ *   POST /bookings                    Create a booking from the form fields customer,
+ *                                     date (yyyy-MM-dd), attendees and optionally
+ *                                     paymentType and notes
+ *   GET  /bookings/{id}               Look up a booking
+ *   POST /bookings/{id}/approve       Approve a booking
+ *   POST /bookings/{id}/deny          Deny a booking
+ *   GET  /bookings/feed               Stream booking changes as server-sent events
+ *   GET  /metrics                     Request counts and latency percentiles per route
+ *
+ * Usage: java -cp classes com.lancaster.musicapp.BookingServer [port]
+ * Feed clients are served on threads of their own once connected, so they do not count
+ * against maxInFlight, and at most maxFeedClients are connected at once. Limits can be
+ * set with -Dlancaster.server.workers, -Dlancaster.server.maxInFlight and
+ * -Dlancaster.server.maxFeedClients.
+ * With -Dlancaster.sync=true, changes are shared with other instances by BookingSync.
+ */
+public class BookingServer {
+    public static final int DEFAULT_PORT = 8080;
+
+    // Platform threads handling requests when virtual threads are not available
+    public static final int DEFAULT_WORKERS = 32;
+
+    // Requests being handled or waiting for a thread before new ones are turned away
+    public static final int DEFAULT_MAX_IN_FLIGHT = 1024;
+
+    // Feed clients connected at once before new ones are answered 503
+    public static final int DEFAULT_MAX_FEED_CLIENTS = 256;
+
+    // Seconds a client turned away is asked to wait before retrying
+    private static final String RETRY_AFTER = "1";
+
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+    private static final String DATE_PATTERN = "yyyy-MM-dd";
+    private static final String JSON = "application/json; charset=utf-8";
+
+    // Events a feed client is sent ahead of what it has read
+    private static final int FEED_WINDOW = 16;
+
+    // Seconds between comments on an idle feed connection. Writing is the only way to
+    // notice that a client has gone, so this is also how long its thread may outlive it.
+    private static final int FEED_KEEPALIVE = 1;
+
+    // Set while an exchange that was not admitted is being answered
+    private static final ThreadLocal<Boolean> OVERLOADED = new ThreadLocal<>();
+
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final Semaphore admission;
+    private final ExecutorService feedWriters;
+    private final Semaphore feedSlots;
+    private final boolean virtualThreads;
+    private final Map<String, RouteMetrics> metrics = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder feedClients = new LongAdder();
+
+    /**
+     * Create a server, not yet started, allowing DEFAULT_MAX_FEED_CLIENTS feed clients
+     * @param port The port to listen on, or 0 for any free port
+     * @param workers Platform threads to use when virtual threads are not available
+     * @param maxInFlight Requests admitted at once before new ones are answered 503
+     */
+    public BookingServer(int port, int workers, int maxInFlight) throws IOException {
+        this(port, workers, maxInFlight, DEFAULT_MAX_FEED_CLIENTS);
+    }
+
+    /**
+     * Create a server, not yet started
+     * @param port The port to listen on, or 0 for any free port
+     * @param workers Platform threads to use when virtual threads are not available
+     * @param maxInFlight Requests admitted at once before new ones are answered 503
+     * @param maxFeedClients Feed clients connected at once before new ones are answered 503
+     */
+    public BookingServer(int port, int workers, int maxInFlight, int maxFeedClients) throws IOException {
+        this.virtualThreads = VirtualThreads.isAvailable();
+        this.workers = VirtualThreads.newExecutor("booking-server", workers);
+        this.admission = new Semaphore(maxInFlight);
+        this.feedWriters = VirtualThreads.newExecutor("booking-server-feed", maxFeedClients);
+        this.feedSlots = new Semaphore(maxFeedClients);
+
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/bookings", this::handleBookings);
+        server.createContext("/metrics", this::handleMetrics);
+        server.setExecutor(this::admit);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stop accepting requests, waiting up to a second for those being handled
+     */
+    public void stop() {
+        server.stop(1);
+        workers.shutdown();
+        // Interrupts feed clients waiting for their next event
+        feedWriters.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Hand an exchange from the server's dispatcher thread to a worker, or turn it away
+     * on the dispatcher thread when too many requests are already in flight
+     */
+    private void admit(Runnable exchange) {
+        if (!admission.tryAcquire()) {
+            rejected.increment();
+            OVERLOADED.set(Boolean.TRUE);
+            try {
+                exchange.run();
+            } finally {
+                OVERLOADED.remove();
+            }
+            return;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    exchange.run();
+                } finally {
+                    admission.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Stopping
+            admission.release();
+        }
+    }
+
+    private void handleBookings(HttpExchange exchange) throws IOException {
+        if (OVERLOADED.get() != null) {
+            exchange.getResponseHeaders().set("Retry-After", RETRY_AFTER);
+            send(exchange, 503, error("Server busy"));
+            return;
+        }
+        if ("GET".equals(exchange.getRequestMethod())
+                && exchange.getRequestURI().getPath().replaceAll("/+$", "").equals("/bookings/feed")) {
+            streamFeed(exchange);
+            return;
+        }
+        long start = System.nanoTime();
+        String route = "other";
+        int status = 500;
+        try {
+            String method = exchange.getRequestMethod();
+            String[] path = exchange.getRequestURI().getPath().replaceAll("/+$", "").split("/");
+            // path[0] is empty and path[1] is "bookings"
+            String body;
+            if (path.length < 2 || !"bookings".equals(path[1])) {
+                status = 404;
+                body = error("No such resource");
+            } else if (path.length == 2 && "GET".equals(method)) {
+                route = "list";
+                body = list(query(exchange.getRequestURI().getRawQuery()).get("status"));
+                status = 200;
+            } else if (path.length == 2 && "POST".equals(method)) {
+                route = "create";
+                Map<String, String> form = query(readBody(exchange));
+                String created = create(form);
+                body = created != null ? created : error("Could not store the booking");
+                status = created != null ? 201 : 500;
+            } else if (path.length == 3 && "GET".equals(method)) {
+                route = "lookup";
+                body = lookup(path[2]);
+                status = body != null ? 200 : 404;
+                if (body == null) {
+                    body = error("No booking " + path[2]);
+                }
+            } else if (path.length == 4 && "POST".equals(method)
+                    && ("approve".equals(path[3]) || "deny".equals(path[3]))) {
+                route = path[3];
+                BookingManager manager = BookingManager.getInstance();
+                boolean stored = ("approve".equals(path[3])
+                    ? manager.approveBooking(path[2]) : manager.denyBooking(path[2])).join();
+                BookingManager.BookingEntry booking = manager.getBooking(path[2]);
+                if (stored) {
+                    status = 200;
+                    body = toJson(booking);
+                } else if (booking != null) {
+                    status = 500;
+                    body = error("Could not store the booking");
+                } else {
+                    status = 404;
+                    body = error("No booking " + path[2]);
+                }
+            } else {
+                status = 404;
+                body = error("No such resource");
+            }
+            send(exchange, status, body);
+        } catch (IllegalArgumentException e) {
+            status = 400;
+            send(exchange, status, error(e.getMessage()));
+        } catch (CompletionException e) {
+            // The database could not be reached, which says nothing about whether the booking exists
+            e.getCause().printStackTrace();
+            status = 503;
+            exchange.getResponseHeaders().set("Retry-After", RETRY_AFTER);
+            send(exchange, status, error("Database unavailable"));
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            status = 500;
+            send(exchange, status, error("Internal error"));
+        } finally {
+            metrics.computeIfAbsent(route, key -> new RouteMetrics()).record(System.nanoTime() - start, status >= 500);
+        }
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        if (OVERLOADED.get() != null) {
+            exchange.getResponseHeaders().set("Retry-After", RETRY_AFTER);
+            send(exchange, 503, error("Server busy"));
+            return;
+        }
+        StringBuilder json = new StringBuilder("{\"virtualThreads\":").append(virtualThreads)
+            .append(",\"rejected\":").append(rejected.sum())
+            .append(",\"feedClients\":").append(feedClients.sum())
+            .append(",\"routes\":{");
+        String separator = "";
+        for (Map.Entry<String, RouteMetrics> route : new TreeMap<>(metrics).entrySet()) {
+            json.append(separator).append(quote(route.getKey())).append(':');
+            route.getValue().appendJson(json);
+            separator = ",";
+        }
+        send(exchange, 200, json.append("}}").toString());
+    }
+
+    /**
+     * Start sending booking changes to the client as server-sent events. Once the
+     * headers are sent the stream is handed to a feed writer thread, so the worker and
+     * its admission permit are free again while the client stays connected.
+     * The next event is only requested from the feed once the last one has been written,
+     * so a slow client gets a RELOADED event instead of an ever-growing backlog.
+     */
+    private void streamFeed(HttpExchange exchange) throws IOException {
+        if (!feedSlots.tryAcquire()) {
+            rejected.increment();
+            exchange.getResponseHeaders().set("Retry-After", RETRY_AFTER);
+            send(exchange, 503, error("Too many feed clients"));
+            return;
+        }
+        BlockingQueue<BookingFeed.Event> events = new ArrayBlockingQueue<>(FEED_WINDOW);
+        CompletableFuture<Flow.Subscription> subscribed = new CompletableFuture<>();
+        BookingManager.getInstance().getBookingFeed().subscribe(new Flow.Subscriber<BookingFeed.Event>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscribed.complete(subscription);
+                subscription.request(FEED_WINDOW);
+            }
+
+            @Override
+            public void onNext(BookingFeed.Event event) {
+                // Never more than FEED_WINDOW outstanding, so this always fits
+                events.offer(event);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                throwable.printStackTrace();
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        Flow.Subscription subscription = subscribed.join();
+
+        feedClients.increment();
+        boolean handedOver = false;
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0);
+            feedWriters.execute(() -> writeFeed(exchange, events, subscription));
+            handedOver = true;
+        } catch (RejectedExecutionException e) {
+            // Stopping
+            exchange.close();
+        } finally {
+            if (!handedOver) {
+                endFeed(subscription);
+            }
+        }
+    }
+
+    /**
+     * Write events to a feed client until it disconnects. Runs on a feed writer thread.
+     */
+    private void writeFeed(HttpExchange exchange, BlockingQueue<BookingFeed.Event> events,
+                           Flow.Subscription subscription) {
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(": connected\n\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            while (true) {
+                BookingFeed.Event event = events.poll(FEED_KEEPALIVE, TimeUnit.SECONDS);
+                String message = event == null ? ": keepalive\n\n"
+                    : "event: " + event.getType().name().toLowerCase(Locale.ROOT) + "\ndata: "
+                        + (event.getBooking() != null ? toJson(event.getBooking()) : "{}") + "\n\n";
+                out.write(message.getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                if (event != null) {
+                    subscription.request(1);
+                }
+            }
+        } catch (IOException e) {
+            // The client disconnected
+        } catch (InterruptedException e) {
+            // Stopping
+            exchange.close();
+        } finally {
+            endFeed(subscription);
+        }
+    }
+
+    private void endFeed(Flow.Subscription subscription) {
+        subscription.cancel();
+        feedClients.decrement();
+        feedSlots.release();
+    }
+
+    private String list(String status) {
+        StringBuilder json = new StringBuilder("[");
+        String separator = "";
+        for (BookingManager.BookingEntry booking : BookingManager.getInstance().getAllBookings()) {
+            if (status == null || status.equalsIgnoreCase(booking.getStatus())) {
+                json.append(separator).append(toJson(booking));
+                separator = ",";
+            }
+        }
+        return json.append(']').toString();
+    }
+
+    /**
+     * Store a booking in the database and add it to BookingManager
+     * @return The booking as JSON, or null if it could not be stored
+     */
+    private String create(Map<String, String> form) {
+        String customer = required(form, "customer");
+        Date date = parseDate(required(form, "date"));
+        int attendees;
+        try {
+            attendees = Integer.parseInt(required(form, "attendees"));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("attendees must be a number");
+        }
+        if (attendees <= 0) {
+            throw new IllegalArgumentException("attendees must be positive");
+        }
+        String paymentType = form.getOrDefault("paymentType", "Credit Card");
+        String notes = form.getOrDefault("notes", "");
+        int cost = Pricing.largeBookingCost(attendees);
+
+        Booking booking = new Booking(Booking.newBookingID(), customer, paymentType,
+            attendees + " attendees", date, notes, cost);
+        if (!booking.save().join()) {
+            return null;
+        }
+        BookingManager.BookingEntry entry = new BookingManager.BookingEntry(booking.getBookingID(),
+            customer, paymentType, booking.getTicketsBooked(), date, notes, cost, "Pending");
+        BookingManager.getInstance().addBooking(entry);
+        return toJson(entry);
+    }
+
+    /**
+     * Find a booking in BookingManager, or in the database if it is not loaded
+     * @return The booking as JSON, or null if there is no such booking
+     * @throws CompletionException If the database could not be read
+     */
+    private String lookup(String bookingId) {
+        BookingManager.BookingEntry entry = BookingManager.getInstance().getBooking(bookingId);
+        if (entry != null) {
+            return toJson(entry);
+        }
+        entry = BookingManager.getInstance().loadBookingFromDatabase(bookingId).join();
+        return entry != null ? toJson(entry) : null;
+    }
+
+    private static String required(Map<String, String> form, String name) {
+        String value = form.get(name);
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException(name + " is required");
+        }
+        return value.trim();
+    }
+
+    private static Date parseDate(String text) {
+        SimpleDateFormat format = new SimpleDateFormat(DATE_PATTERN);
+        format.setLenient(false);
+        try {
+            return format.parse(text);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("date must be " + DATE_PATTERN);
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                throw new IllegalArgumentException("Request body too large");
+            }
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Decode URL-encoded name=value pairs, from a query string or a form body
+     */
+    private static Map<String, String> query(String encoded) {
+        Map<String, String> values = new HashMap<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return values;
+        }
+        for (String pair : encoded.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            values.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return values;
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    static String toJson(BookingManager.BookingEntry booking) {
+        SimpleDateFormat format = new SimpleDateFormat(DATE_PATTERN);
+        return "{\"id\":" + quote(booking.getBookingId())
+            + ",\"customer\":" + quote(booking.getCustomerName())
+            + ",\"paymentType\":" + quote(booking.getPaymentType())
+            + ",\"tickets\":" + quote(booking.getTicketsBooked())
+            + ",\"date\":" + (booking.getBookingDate() != null ? quote(format.format(booking.getBookingDate())) : "null")
+            + ",\"notes\":" + quote(booking.getNotes())
+            + ",\"totalCost\":" + booking.getTotalCost()
+            + ",\"status\":" + quote(booking.getStatus()) + "}";
+    }
+
+    private static String error(String message) {
+        return "{\"error\":" + quote(message) + "}";
+    }
+
+    private static String quote(String text) {
+        if (text == null) {
+            return "null";
+        }
+        StringBuilder quoted = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * RouteMetrics - Request count, server errors and a latency histogram for one route
+     * Latencies are counted in buckets four to each power of two of nanoseconds, so a
+     * percentile is accurate to within a quarter and recording never allocates or locks.
+     */
+    static class RouteMetrics {
+        private static final int SUB_BUCKETS = 4;
+        private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        void record(long nanos, boolean error) {
+            histogram.incrementAndGet(bucket(Math.max(1, nanos)));
+            count.increment();
+            totalNanos.add(nanos);
+            if (error) {
+                errors.increment();
+            }
+        }
+
+        private static int bucket(long nanos) {
+            int power = 63 - Long.numberOfLeadingZeros(nanos);
+            int fraction = power >= 2 ? (int) (nanos >>> (power - 2)) & (SUB_BUCKETS - 1) : 0;
+            return power * SUB_BUCKETS + fraction;
+        }
+
+        // Upper bound of a bucket, in nanoseconds
+        private static long bucketLimit(int bucket) {
+            int power = bucket / SUB_BUCKETS;
+            int fraction = bucket % SUB_BUCKETS;
+            return power >= 2 ? (1L << power) + ((fraction + 1L) << (power - 2)) : 1L << (power + 1);
+        }
+
+        /**
+         * Get a latency percentile in nanoseconds, by the nearest-rank method
+         */
+        long percentile(int percent) {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = histogram.get(i);
+                total += counts[i];
+            }
+            long rank = Math.max(1, (long) Math.ceil(percent / 100.0 * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return bucketLimit(i);
+                }
+            }
+            return 0;
+        }
+
+        void appendJson(StringBuilder json) {
+            long requests = count.sum();
+            json.append("{\"requests\":").append(requests)
+                .append(",\"errors\":").append(errors.sum())
+                .append(String.format(Locale.ROOT, ",\"meanMs\":%.3f", requests > 0 ? totalNanos.sum() / 1e6 / requests : 0.0))
+                .append(String.format(Locale.ROOT, ",\"p50Ms\":%.3f", percentile(50) / 1e6))
+                .append(String.format(Locale.ROOT, ",\"p90Ms\":%.3f", percentile(90) / 1e6))
+                .append(String.format(Locale.ROOT, ",\"p99Ms\":%.3f}", percentile(99) / 1e6));
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : Integer.getInteger("lancaster.server.port", DEFAULT_PORT);
+        int workers = Integer.getInteger("lancaster.server.workers", DEFAULT_WORKERS);
+        int maxInFlight = Integer.getInteger("lancaster.server.maxInFlight", DEFAULT_MAX_IN_FLIGHT);
+        int maxFeedClients = Integer.getInteger("lancaster.server.maxFeedClients", DEFAULT_MAX_FEED_CLIENTS);
+
+        // Join before loading, so no change made by another instance in between is missed
+        BookingSync.startIfEnabled();
+        try {
+            BookingManager.getInstance().loadBookingsFromDatabase().join();
+        } catch (CompletionException e) {
+            // Lookups still go to the database, and the bookings are loaded on the next reload
+            System.err.println("Starting without loaded bookings: " + e.getCause());
+        }
+        BookingServer server = new BookingServer(port, workers, maxInFlight, maxFeedClients);
+        server.start();
+        System.out.println("Booking API listening on port " + server.getPort()
+            + (server.usesVirtualThreads() ? " with virtual threads" : " with " + workers + " threads"));
+    }
+}
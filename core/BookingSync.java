@@ -0,0 +1,254 @@
+package com.lancaster.musicapp;
+
+import java.beans.PropertyChangeListener;
+import java.io.*;
+import java.net.*;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BookingSync - Keeps the BookingManager of several running instances coherent
+ * Every booking this instance adds or changes is announced to a multicast group once
+ * it is in the database, and changes announced by the other instances are applied to
+ * this one with BookingManager.applyRemoteChange(), one booking at a time. Each
+ * instance numbers its announcements and sends a heartbeat with the latest number, so
+ * a lost datagram shows up as a gap, after which all bookings are reloaded from the
+ * database. Announcements stay on the local network (time to live 1), and several
+ * instances on one machine see each other through loopback.
+ *
+ * Enable with -Dlancaster.sync=true. The group, port and network interface can be set
+ * with -Dlancaster.sync.group, -Dlancaster.sync.port and -Dlancaster.sync.interface.
+ */
+public class BookingSync {
+    public static final String DEFAULT_GROUP = "239.255.76.77";
+    public static final int DEFAULT_PORT = 45877;
+
+    // Seconds between heartbeats, and so the longest a lost announcement goes unnoticed
+    private static final int HEARTBEAT_INTERVAL = 2;
+
+    // Announcements larger than this would be fragmented, so a reload is announced instead
+    private static final int MAX_DATAGRAM = 1400;
+
+    private static final int MAGIC = 0x4C4D4853; // "LMHS"
+    private static final byte CHANGED = 'C';
+    private static final byte RELOAD = 'R';
+    private static final byte HEARTBEAT = 'H';
+
+    private static BookingSync instance;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final InetSocketAddress group;
+    private final MulticastSocket socket;
+    private final ScheduledExecutorService sender = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "booking-sync-send");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Thread receiver;
+    private final PropertyChangeListener storedListener;
+
+    // Last number announced by this instance, only used by the sender thread
+    private long sequence;
+
+    // Highest number received from each other instance, only used by the receiver thread
+    private final Map<String, Long> received = new ConcurrentHashMap<>();
+
+    private volatile boolean running = true;
+
+    /**
+     * Join a multicast group and start announcing and applying changes
+     * @param group The multicast group address
+     * @param port The port every instance uses
+     * @param networkInterface The interface to use, or null for the system default
+     */
+    public BookingSync(InetAddress group, int port, NetworkInterface networkInterface) throws IOException {
+        this.group = new InetSocketAddress(group, port);
+        socket = new MulticastSocket(port);
+        if (networkInterface != null) {
+            socket.setNetworkInterface(networkInterface);
+        }
+        socket.setTimeToLive(1);
+        socket.joinGroup(this.group, networkInterface);
+
+        storedListener = evt -> {
+            BookingManager.BookingEntry booking = (BookingManager.BookingEntry) evt.getNewValue();
+            // Encoded now, as the booking may change before the sender gets to it
+            byte[] change = encodeBooking(booking);
+            sender.execute(() -> send(change != null ? CHANGED : RELOAD, change));
+        };
+        BookingManager.getInstance().addStoredChangeListener(storedListener);
+
+        sender.scheduleWithFixedDelay(() -> send(HEARTBEAT, null),
+            HEARTBEAT_INTERVAL, HEARTBEAT_INTERVAL, TimeUnit.SECONDS);
+        receiver = new Thread(this::receive, "booking-sync-receive");
+        receiver.setDaemon(true);
+        receiver.start();
+    }
+
+    /**
+     * Start synchronising if -Dlancaster.sync=true was given. Failing to join the group
+     * is reported but does not stop the application, which then runs on its own.
+     * @return The running instance, or null if it is not enabled or could not start
+     */
+    public static synchronized BookingSync startIfEnabled() {
+        if (instance != null || !Boolean.getBoolean("lancaster.sync")) {
+            return instance;
+        }
+        try {
+            String interfaceName = System.getProperty("lancaster.sync.interface");
+            NetworkInterface networkInterface = null;
+            if (interfaceName != null) {
+                networkInterface = NetworkInterface.getByName(interfaceName);
+                if (networkInterface == null) {
+                    throw new SocketException("No network interface " + interfaceName);
+                }
+            }
+            instance = new BookingSync(InetAddress.getByName(System.getProperty("lancaster.sync.group", DEFAULT_GROUP)),
+                Integer.getInteger("lancaster.sync.port", DEFAULT_PORT), networkInterface);
+        } catch (IOException e) {
+            System.err.println("Booking changes will not be shared with other instances: " + e);
+        }
+        return instance;
+    }
+
+    /**
+     * Stop announcing and applying changes, and leave the group
+     */
+    public void stop() {
+        running = false;
+        BookingManager.getInstance().removeStoredChangeListener(storedListener);
+        sender.shutdown();
+        socket.close();
+    }
+
+    /**
+     * Send an announcement. Only called on the sender thread.
+     * @param type CHANGED, RELOAD or HEARTBEAT
+     * @param body The encoded booking for CHANGED, otherwise null
+     */
+    private void send(byte type, byte[] body) {
+        if (type != HEARTBEAT) {
+            sequence++;
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeUTF(instanceId);
+            out.writeLong(sequence);
+            out.writeByte(type);
+            if (body != null) {
+                out.write(body);
+            }
+            byte[] datagram = bytes.toByteArray();
+            socket.send(new DatagramPacket(datagram, datagram.length, group));
+        } catch (IOException e) {
+            if (running) {
+                // The other instances see the gap at the next heartbeat and reload
+                System.err.println("Could not announce a booking change: " + e);
+            }
+        }
+    }
+
+    private void receive() {
+        byte[] buffer = new byte[MAX_DATAGRAM + 256];
+        while (running) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+                handle(new DataInputStream(new ByteArrayInputStream(packet.getData(), 0, packet.getLength())));
+            } catch (IOException e) {
+                if (running) {
+                    System.err.println("Ignoring a booking change announcement: " + e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Apply an announcement from another instance, reloading everything if some of
+     * that instance's announcements were missed. Announcements arriving after a later
+     * one from the same instance are ignored.
+     */
+    private void handle(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            return;
+        }
+        String from = in.readUTF();
+        if (from.equals(instanceId)) {
+            // Our own announcement, looped back
+            return;
+        }
+        long number = in.readLong();
+        byte type = in.readByte();
+
+        Long last = received.get(from);
+        if (last != null && (number < last || number == last && type != HEARTBEAT)) {
+            // Delayed or duplicated; applying it would undo newer changes
+            return;
+        }
+        received.put(from, number);
+        boolean missed = last != null && number > last + (type == HEARTBEAT ? 0 : 1);
+        if (missed || type == RELOAD) {
+            BookingManager.getInstance().loadBookingsFromDatabase().exceptionally(e -> {
+                // The next gap or reload announcement tries again
+                System.err.println("Could not reload bookings after a missed change: " + e);
+                return null;
+            });
+        } else if (type == CHANGED) {
+            BookingManager.getInstance().applyRemoteChange(decodeBooking(in));
+        }
+    }
+
+    /**
+     * Encode a booking for an announcement
+     * @return The encoded booking, or null if it is too large for one datagram
+     */
+    private static byte[] encodeBooking(BookingManager.BookingEntry booking) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeUTF(booking.getBookingId());
+            writeNullable(out, booking.getCustomerName());
+            writeNullable(out, booking.getPaymentType());
+            writeNullable(out, booking.getTicketsBooked());
+            out.writeLong(booking.getBookingDate() != null ? booking.getBookingDate().getTime() : Long.MIN_VALUE);
+            writeNullable(out, booking.getNotes());
+            out.writeInt(booking.getTotalCost());
+            writeNullable(out, booking.getStatus());
+            return bytes.size() <= MAX_DATAGRAM - 128 ? bytes.toByteArray() : null;
+        } catch (IOException e) {
+            // writeUTF refuses strings over 64 KB
+            return null;
+        }
+    }
+
+    private static BookingManager.BookingEntry decodeBooking(DataInputStream in) throws IOException {
+        String bookingId = in.readUTF();
+        String customerName = readNullable(in);
+        String paymentType = readNullable(in);
+        String ticketsBooked = readNullable(in);
+        long date = in.readLong();
+        String notes = readNullable(in);
+        int totalCost = in.readInt();
+        String status = readNullable(in);
+        return new BookingManager.BookingEntry(bookingId, customerName, paymentType, ticketsBooked,
+            date != Long.MIN_VALUE ? new Date(date) : null, notes, totalCost, status);
+    }
+
+    private static void writeNullable(DataOutputStream out, String text) throws IOException {
+        out.writeBoolean(text != null);
+        if (text != null) {
+            out.writeUTF(text);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
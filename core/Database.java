@@ -0,0 +1,55 @@
+package com.lancaster.musicapp;
+
+import java.sql.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+public class Database {
+    private static final String url = "jdbc:mysql://sst-stuproj.city.ac.uk:3306/in2033t39";
+    //ADMIN USERNAME AND PASSWORD, FOR DATA USERS PLEASE REFER TO THE EMAIL SENT BY MARTIN 13/02/2025
+    private static final String username = "in2033t39_a";
+    private static final String password = "FaxFwIqv5TA";
+
+    // Connections open at once; further work waits its turn. Set with -Dlancaster.db.maxConnections.
+    public static final int MAX_CONNECTIONS = Integer.getInteger("lancaster.db.maxConnections", 8);
+
+    private static final Semaphore connectionPermits = new Semaphore(MAX_CONNECTIONS, true);
+
+    // Virtual threads where available, so work waiting on the database holds no platform thread
+    private static final ExecutorService executor = VirtualThreads.newExecutor("database", MAX_CONNECTIONS);
+
+    /**
+     * Work done with a connection to the database
+     */
+    public interface Work<T> {
+        T run(Connection conn) throws SQLException;
+    }
+
+    /** Open and retrieve a connection to the database
+     * @return an open connection to the database
+     * @throws SQLException a connection to the database could not be established
+     */
+    public static Connection connection() throws SQLException {
+        return DriverManager.getConnection(url, username, password);
+    }
+
+    /** Run work with its own connection in the background, never on the calling thread.
+     * At most MAX_CONNECTIONS pieces of work hold a connection at once.
+     * @param work the work to run, given an open connection that is closed afterwards
+     * @return a future completed with the work's result, or exceptionally with the SQLException it threw
+     */
+    public static <T> CompletableFuture<T> submit(Work<T> work) {
+        return CompletableFuture.supplyAsync(() -> {
+            connectionPermits.acquireUninterruptibly();
+            try (Connection conn = connection()) {
+                return work.run(conn);
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            } finally {
+                connectionPermits.release();
+            }
+        }, executor);
+    }
+}
@@ -0,0 +1,62 @@
+package com.lancaster.musicapp;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * Enquiry - An enquiry from a customer about the venue
+ */
+public class Enquiry {
+    private String enquiryID;
+    private String customerName;
+    private String contactEmail;
+    private String contactPhone;
+    private String enquiryType;
+    private String enquiryDetails;
+    private Date enquiryDate;
+    private boolean isResolved;
+
+    public Enquiry(String enquiryID, String customerName, String contactEmail, String contactPhone,
+                  String enquiryType, String enquiryDetails, Date enquiryDate, boolean isResolved) {
+        this.enquiryID = enquiryID;
+        this.customerName = customerName;
+        this.contactEmail = contactEmail;
+        this.contactPhone = contactPhone;
+        this.enquiryType = enquiryType;
+        this.enquiryDetails = enquiryDetails;
+        this.enquiryDate = enquiryDate;
+        this.isResolved = isResolved;
+    }
+
+    // Getters and setters
+    public String getEnquiryID() { return enquiryID; }
+    public void setEnquiryID(String enquiryID) { this.enquiryID = enquiryID; }
+
+    public String getCustomerName() { return customerName; }
+    public void setCustomerName(String customerName) { this.customerName = customerName; }
+
+    public String getContactEmail() { return contactEmail; }
+    public void setContactEmail(String contactEmail) { this.contactEmail = contactEmail; }
+
+    public String getContactPhone() { return contactPhone; }
+    public void setContactPhone(String contactPhone) { this.contactPhone = contactPhone; }
+
+    public String getEnquiryType() { return enquiryType; }
+    public void setEnquiryType(String enquiryType) { this.enquiryType = enquiryType; }
+
+    public String getEnquiryDetails() { return enquiryDetails; }
+    public void setEnquiryDetails(String enquiryDetails) { this.enquiryDetails = enquiryDetails; }
+
+    public Date getEnquiryDate() { return enquiryDate; }
+    public void setEnquiryDate(Date enquiryDate) { this.enquiryDate = enquiryDate; }
+
+    public boolean isResolved() { return isResolved; }
+    public void setResolved(boolean resolved) { isResolved = resolved; }
+
+    @Override
+    public String toString() {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("MMMM d, yyyy");
+        return "Enquiry: " + customerName + " (" + enquiryType + "), " +
+               dateFormat.format(enquiryDate) + ", " + (isResolved ? "Resolved" : "Pending");
+    }
+}
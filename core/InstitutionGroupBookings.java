@@ -0,0 +1,64 @@
+package com.lancaster.musicapp;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * InstitutionGroupBookings - A group booking made by a school or other institution
+ */
+public class InstitutionGroupBookings {
+    private String institutionName;
+    private String contactPerson;
+    private String contactEmail;
+    private String contactPhone;
+    private int groupSize;
+    private Date bookingDate;
+    private String specialRequirements;
+    private boolean isConfirmed;
+
+    public InstitutionGroupBookings(String institutionName, String contactPerson, String contactEmail,
+                                   String contactPhone, int groupSize, Date bookingDate,
+                                   String specialRequirements, boolean isConfirmed) {
+        this.institutionName = institutionName;
+        this.contactPerson = contactPerson;
+        this.contactEmail = contactEmail;
+        this.contactPhone = contactPhone;
+        this.groupSize = groupSize;
+        this.bookingDate = bookingDate;
+        this.specialRequirements = specialRequirements;
+        this.isConfirmed = isConfirmed;
+    }
+
+    // Getters and setters
+    public String getInstitutionName() { return institutionName; }
+    public void setInstitutionName(String institutionName) { this.institutionName = institutionName; }
+
+    public String getContactPerson() { return contactPerson; }
+    public void setContactPerson(String contactPerson) { this.contactPerson = contactPerson; }
+
+    public String getContactEmail() { return contactEmail; }
+    public void setContactEmail(String contactEmail) { this.contactEmail = contactEmail; }
+
+    public String getContactPhone() { return contactPhone; }
+    public void setContactPhone(String contactPhone) { this.contactPhone = contactPhone; }
+
+    public int getGroupSize() { return groupSize; }
+    public void setGroupSize(int groupSize) { this.groupSize = groupSize; }
+
+    public Date getBookingDate() { return bookingDate; }
+    public void setBookingDate(Date bookingDate) { this.bookingDate = bookingDate; }
+
+    public String getSpecialRequirements() { return specialRequirements; }
+    public void setSpecialRequirements(String specialRequirements) { this.specialRequirements = specialRequirements; }
+
+    public boolean isConfirmed() { return isConfirmed; }
+    public void setConfirmed(boolean confirmed) { isConfirmed = confirmed; }
+
+    @Override
+    public String toString() {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("MMMM d, yyyy");
+        return "Institution Booking: " + institutionName + " (" + contactPerson + "), " +
+               dateFormat.format(bookingDate) + ", " + groupSize + " attendees, " +
+               (isConfirmed ? "Confirmed" : "Pending");
+    }
+}
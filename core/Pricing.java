@@ -0,0 +1,24 @@
+package com.lancaster.musicapp;
+
+/**
+ * Pricing - Works out what bookings cost
+ */
+public final class Pricing {
+    // Base cost of a large booking, in pounds
+    public static final int LARGE_BOOKING_BASE_COST = 500;
+
+    // Cost of each attendee of a large booking, in pounds
+    public static final int LARGE_BOOKING_ATTENDEE_COST = 10;
+
+    private Pricing() {
+    }
+
+    /**
+     * Calculate the cost of a large booking
+     * @param attendees The number of attendees
+     * @return The cost in pounds
+     */
+    public static int largeBookingCost(int attendees) {
+        return LARGE_BOOKING_BASE_COST + attendees * LARGE_BOOKING_ATTENDEE_COST;
+    }
+}
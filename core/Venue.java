@@ -1,5 +1,9 @@
 package com.lancaster.musicapp;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
 /**
  * Venue class to hold information for each venue
  */
@@ -52,5 +56,27 @@ public class Venue {
         public double getDailyRate() { return dailyRate; }
         public double getWeekendRate() { return weekendRate; }
         public double getWeeklyRate() { return weeklyRate; }
+        
+        /**
+         * Price a booking over a range of days, both ends included. Whole weeks
+         * use the weekly rate, a Saturday booked with its Sunday uses the weekend
+         * rate, and every other day uses the daily rate.
+         */
+        public double quote(LocalDate start, LocalDate end) {
+            long days = ChronoUnit.DAYS.between(start, end) + 1;
+            double total = (days / 7) * weeklyRate;
+            
+            LocalDate day = start.plusDays(days / 7 * 7);
+            while (!day.isAfter(end)) {
+                if (day.getDayOfWeek() == DayOfWeek.SATURDAY && day.isBefore(end)) {
+                    total += weekendRate;
+                    day = day.plusDays(2);
+                } else {
+                    total += dailyRate;
+                    day = day.plusDays(1);
+                }
+            }
+            return total;
+        }
     }
 }
@@ -0,0 +1,57 @@
+package com.lancaster.musicapp;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * VirtualThreads - Creates executors on virtual threads when the JVM has them
+ * Virtual threads are looked up reflectively, so the code still compiles and runs on
+ * Java 17, where the executors fall back to a fixed pool of daemon platform threads.
+ */
+public final class VirtualThreads {
+    private VirtualThreads() {
+    }
+
+    /**
+     * Check whether this JVM can start virtual threads
+     */
+    public static boolean isAvailable() {
+        ExecutorService executor = newPerTaskExecutor();
+        if (executor == null) {
+            return false;
+        }
+        executor.shutdown();
+        return true;
+    }
+
+    /**
+     * Create an executor that starts a virtual thread per task, or a fixed pool of
+     * platform threads if this JVM has no virtual threads
+     * @param name The name of the platform threads
+     * @param threads The number of platform threads
+     */
+    public static ExecutorService newExecutor(String name, int threads) {
+        ExecutorService executor = newPerTaskExecutor();
+        if (executor != null) {
+            return executor;
+        }
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Create an executor that starts a virtual thread per task
+     * @return The executor, or null if virtual threads are not available
+     */
+    private static ExecutorService newPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            // Before Java 21, or a preview that is not enabled
+            return null;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+#!/bin/sh
+# Launch Lancaster's Music Hall, using a class-data sharing (AppCDS) archive when one
+# is available, so Swing and application classes are mapped in instead of loaded.
+#
+#   ./launch.sh           Start the application
+#   ./launch.sh --train   Walk through the welcome screen and every main screen, then
+#                         exit, recording the loaded classes into the archive. Run it
+#                         again after rebuilding the application or updating Java.
+#   ./launch.sh --server [port]
+#                         Start the booking HTTP API without the user interface
+#
+# Environment:
+#   JAVA               java executable (default: java on the PATH)
+#   LANCASTER_CLASSES  compiled classes (default: out/production/calendar_ui_final_fixed)
+#   LANCASTER_CORE_CLASSES  compiled classes of the core module (default: out/production/lancaster_core)
+#   LANCASTER_LIBS     directory of library jars, such as the MySQL connector (default: lib)
+#   LANCASTER_CACHE    where the packaged jar and the archive are kept (default: out/cds)
+
+set -e
+cd "$(dirname "$0")"
+
+JAVA=${JAVA:-java}
+CLASSES=${LANCASTER_CLASSES:-out/production/calendar_ui_final_fixed}
+CORE_CLASSES=${LANCASTER_CORE_CLASSES:-out/production/lancaster_core}
+LIBS=${LANCASTER_LIBS:-lib}
+CACHE=${LANCASTER_CACHE:-out/cds}
+APP_JAR=$CACHE/lancaster.jar
+CORE_JAR=$CACHE/lancaster-core.jar
+ARCHIVE=$CACHE/lancaster.jsa
+MAIN=com.lancaster.musicapp.LancasterMusicApp
+
+case "$JAVA" in
+    */*) JAR_TOOL=$(dirname "$JAVA")/jar ;;
+    *) JAR_TOOL=jar ;;
+esac
+
+mkdir -p "$CACHE"
+
+# The archive only holds classes loaded from jar files, so package the compiled
+# classes, again whenever any of them is newer than the jar
+package() {
+    if [ ! -f "$1" ] || [ -n "$(find "$2" -type f -newer "$1" | head -n 1)" ]; then
+        rm -f "$1"
+        "$JAR_TOOL" cf "$1" -C "$2" .
+    fi
+}
+package "$CORE_JAR" "$CORE_CLASSES"
+package "$APP_JAR" "$CLASSES"
+
+CLASS_PATH=$APP_JAR:$CORE_JAR
+for lib in "$LIBS"/*.jar; do
+    if [ -f "$lib" ]; then
+        CLASS_PATH=$CLASS_PATH:$lib
+    fi
+done
+
+if [ "$1" = "--server" ]; then
+    shift
+    SERVER_CLASS_PATH=$CORE_JAR
+    for lib in "$LIBS"/*.jar; do
+        if [ -f "$lib" ]; then
+            SERVER_CLASS_PATH=$SERVER_CLASS_PATH:$lib
+        fi
+    done
+    exec "$JAVA" -Djava.awt.headless=true -cp "$SERVER_CLASS_PATH" com.lancaster.musicapp.BookingServer "$@"
+fi
+
+if [ "$1" = "--train" ]; then
+    shift
+    rm -f "$ARCHIVE"
+    exec "$JAVA" -XX:ArchiveClassesAtExit="$ARCHIVE" -Dlancaster.cdsTraining=true -cp "$CLASS_PATH" "$MAIN" "$@"
+fi
+
+# An archive older than the jars was recorded from other classes. The JVM also checks
+# the class path and Java version itself, and starts without the archive on a mismatch,
+# so its warning is silenced.
+if [ -f "$ARCHIVE" ] && [ -n "$(find "$ARCHIVE" -newer "$APP_JAR")" ] && [ -n "$(find "$ARCHIVE" -newer "$CORE_JAR")" ]; then
+    exec "$JAVA" -XX:SharedArchiveFile="$ARCHIVE" -Xshare:auto -Xlog:cds=off -Xlog:cds+dynamic=off \
+        -cp "$CLASS_PATH" "$MAIN" "$@"
+fi
+
+echo "No up-to-date startup archive, run $0 --train to create one" >&2
+exec "$JAVA" -cp "$CLASS_PATH" "$MAIN" "$@"
@@ -0,0 +1,111 @@
+package com.lancaster.musicapp;
+
+import javax.swing.Timer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AnimationClock - A single pulse that drives every animation in the application
+ * All running animations are ticked from the same timer event, so their motion
+ * stays in step, and the repaints they ask for during a tick are coalesced by
+ * Swing's RepaintManager into one paint pass. The timer stops whenever no
+ * animation is running, so an idle application never wakes up.
+ */
+public final class AnimationClock {
+    // Pulse interval, about 60 frames per second
+    public static final int FRAME_INTERVAL = 1000 / 60; // milliseconds
+
+    private static AnimationClock instance;
+
+    private final List<Animation> animations = new ArrayList<>();
+    private Animation[] ticking = new Animation[0];
+    private final Timer timer;
+
+    /**
+     * Animation - Something advanced on every pulse of the clock
+     */
+    public interface Animation {
+        /**
+         * Advance the animation.
+         * @param now The pulse time in milliseconds, the same for every animation in a pulse
+         * @return true to keep running, false when the animation has finished
+         */
+        boolean tick(long now);
+    }
+
+    // Private constructor for singleton pattern
+    private AnimationClock() {
+        timer = new Timer(FRAME_INTERVAL, e -> pulse());
+        timer.setCoalesce(true);
+    }
+
+    /**
+     * Get the singleton instance of AnimationClock. Only use it on the Event Dispatch Thread.
+     */
+    public static AnimationClock getInstance() {
+        if (instance == null) {
+            instance = new AnimationClock();
+        }
+        return instance;
+    }
+
+    /**
+     * Get the current time on the clock's time base.
+     */
+    public static long now() {
+        return System.nanoTime() / 1_000_000L;
+    }
+
+    /**
+     * Start ticking an animation, from the next pulse. Starting a running animation does nothing.
+     * @param animation The animation to start
+     */
+    public void start(Animation animation) {
+        if (!animations.contains(animation)) {
+            animations.add(animation);
+        }
+        if (!timer.isRunning()) {
+            timer.start();
+        }
+    }
+
+    /**
+     * Stop ticking an animation
+     * @param animation The animation to stop
+     */
+    public void stop(Animation animation) {
+        animations.remove(animation);
+        if (animations.isEmpty()) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Check whether an animation is being ticked
+     * @param animation The animation to check
+     * @return true if the animation is running
+     */
+    public boolean isRunning(Animation animation) {
+        return animations.contains(animation);
+    }
+
+    /**
+     * Tick every running animation once. Animations may start or stop
+     * animations while they are ticked, so a snapshot of the list is ticked.
+     */
+    private void pulse() {
+        long now = now();
+        ticking = animations.toArray(ticking);
+        int count = animations.size();
+        for (int i = 0; i < count; i++) {
+            Animation animation = ticking[i];
+            ticking[i] = null;
+            if (animations.contains(animation) && !animation.tick(now)) {
+                animations.remove(animation);
+            }
+        }
+        if (animations.isEmpty()) {
+            timer.stop();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.lancaster.musicapp;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+
+/**
+ * AnimationLifecycle - Ties a looping animation to the visibility of its component
+ * The animation runs only while the component is showing on screen and its window
+ * is not minimised, so screens hidden behind another card cost nothing.
+ */
+public final class AnimationLifecycle {
+
+    private AnimationLifecycle() {
+    }
+
+    /**
+     * Run an animation on the AnimationClock only while a component is showing.
+     * The animation is started when the component becomes visible on screen and
+     * stopped when it is hidden, removed, or its window is minimised.
+     *
+     * @param component The component being animated
+     * @param animation The animation to run
+     */
+    public static void runWhileShowing(JComponent component, AnimationClock.Animation animation) {
+        new Binding(component, animation).update();
+    }
+
+    /**
+     * Listens to the component's hierarchy and window, and starts or stops the animation.
+     */
+    private static final class Binding extends WindowAdapter implements HierarchyListener {
+        private final JComponent component;
+        private final AnimationClock.Animation animation;
+        private Window window;
+
+        Binding(JComponent component, AnimationClock.Animation animation) {
+            this.component = component;
+            this.animation = animation;
+            component.addHierarchyListener(this);
+        }
+
+        @Override
+        public void hierarchyChanged(HierarchyEvent e) {
+            if ((e.getChangeFlags() & (HierarchyEvent.SHOWING_CHANGED | HierarchyEvent.PARENT_CHANGED)) != 0) {
+                update();
+            }
+        }
+
+        @Override
+        public void windowIconified(WindowEvent e) {
+            update();
+        }
+
+        @Override
+        public void windowDeiconified(WindowEvent e) {
+            update();
+        }
+
+        /**
+         * Follow the component's current window and start or stop the animation.
+         */
+        void update() {
+            Window current = SwingUtilities.getWindowAncestor(component);
+            if (current != window) {
+                if (window != null) {
+                    window.removeWindowListener(this);
+                }
+                window = current;
+                if (window != null) {
+                    window.addWindowListener(this);
+                }
+            }
+
+            boolean minimised = window instanceof Frame
+                && (((Frame) window).getExtendedState() & Frame.ICONIFIED) != 0;
+            AnimationClock clock = AnimationClock.getInstance();
+            if (component.isShowing() && !minimised) {
+                clock.start(animation);
+            } else {
+                clock.stop(animation);
+            }
+        }
+    }
+}
@@ -8,10 +8,12 @@ import java.awt.event.*;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.Flow;
 
 /**
  * BookingManagementPanel - A panel for staff to manage bookings
- * This panel displays all bookings and allows staff to approve or deny them
+ * This panel displays all bookings and allows staff to approve or deny them.
+ * The table follows BookingManager's booking feed, so it shows changes as they happen.
  */
 public class BookingManagementPanel extends JPanel {
     // Reference to main application colors and fonts
@@ -34,6 +36,9 @@ public class BookingManagementPanel extends JPanel {
     private JButton refreshButton;
     private JButton logoutButton;
     
+    // Follows the booking feed while the panel is showing, only used on the EDT
+    private TableUpdater tableUpdater;
+    
     // Reference to main frame for dialogs and navigation
     private JFrame mainFrame;
     private CardLayout cardLayout;
@@ -156,8 +161,26 @@ public class BookingManagementPanel extends JPanel {
         add(tablePanel, BorderLayout.CENTER);
         add(buttonPanel, BorderLayout.SOUTH);
         
-        // Load bookings initially
-        refreshBookings();
+        // Bookings are loaded, and then kept up to date, while the panel is showing.
+        // A hidden card stays in the content panel, so being in a window is not enough.
+        addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0) {
+                followFeed(isShowing());
+            }
+        });
+    }
+    
+    /**
+     * Start or stop following the booking feed
+     */
+    private void followFeed(boolean follow) {
+        if (follow && tableUpdater == null) {
+            tableUpdater = new TableUpdater();
+            BookingManager.getInstance().getBookingFeed().subscribe(tableUpdater);
+        } else if (!follow && tableUpdater != null) {
+            tableUpdater.cancel();
+            tableUpdater = null;
+        }
     }
     
     /**
@@ -170,27 +193,107 @@ public class BookingManagementPanel extends JPanel {
         // Get bookings from manager
         List<BookingManager.BookingEntry> bookings = BookingManager.getInstance().getAllBookings();
         
-        // Format date for display
-        SimpleDateFormat dateFormat = new SimpleDateFormat("MM/dd/yyyy");
-        
         // Add bookings to table
         for (BookingManager.BookingEntry booking : bookings) {
-            Object[] rowData = {
-                booking.getBookingId(),
-                booking.getCustomerName(),
-                dateFormat.format(booking.getBookingDate()),
-                booking.getTicketsBooked(),
-                "$" + booking.getTotalCost(),
-                booking.getNotes(),
-                booking.getStatus()
-            };
-            tableModel.addRow(rowData);
+            tableModel.addRow(toRow(booking));
         }
         
         // Update UI
         bookingsTable.repaint();
     }
     
+    /**
+     * Get the table row showing a booking
+     */
+    private Object[] toRow(BookingManager.BookingEntry booking) {
+        // Format date for display
+        SimpleDateFormat dateFormat = new SimpleDateFormat("MM/dd/yyyy");
+        
+        return new Object[] {
+            booking.getBookingId(),
+            booking.getCustomerName(),
+            dateFormat.format(booking.getBookingDate()),
+            booking.getTicketsBooked(),
+            "$" + booking.getTotalCost(),
+            booking.getNotes(),
+            booking.getStatus()
+        };
+    }
+    
+    /**
+     * Apply one booking change to the table, touching only its row
+     */
+    private void applyChange(BookingFeed.Event event) {
+        if (event.getType() == BookingFeed.Type.RELOADED) {
+            refreshBookings();
+            return;
+        }
+        Object[] rowData = toRow(event.getBooking());
+        for (int row = 0; row < tableModel.getRowCount(); row++) {
+            if (rowData[0].equals(tableModel.getValueAt(row, 0))) {
+                for (int column = 1; column < rowData.length; column++) {
+                    tableModel.setValueAt(rowData[column], row, column);
+                }
+                return;
+            }
+        }
+        tableModel.addRow(rowData);
+    }
+    
+    /**
+     * TableUpdater - Applies booking changes to the table on the Event Dispatch Thread,
+     * asking for the next change only once the last one is shown
+     * The table is filled once the subscription exists, so a change made in between is
+     * both in the table and waiting in the feed, and is never missed.
+     */
+    private class TableUpdater implements Flow.Subscriber<BookingFeed.Event> {
+        // Only used on the EDT
+        private Flow.Subscription subscription;
+        private boolean cancelled;
+        
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            SwingUtilities.invokeLater(() -> {
+                if (cancelled) {
+                    subscription.cancel();
+                    return;
+                }
+                this.subscription = subscription;
+                refreshBookings();
+                subscription.request(1);
+            });
+        }
+        
+        @Override
+        public void onNext(BookingFeed.Event event) {
+            SwingUtilities.invokeLater(() -> {
+                if (!cancelled) {
+                    applyChange(event);
+                    subscription.request(1);
+                }
+            });
+        }
+        
+        /**
+         * Stop following the feed. Called on the EDT.
+         */
+        void cancel() {
+            cancelled = true;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+        
+        @Override
+        public void onError(Throwable throwable) {
+            throwable.printStackTrace();
+        }
+        
+        @Override
+        public void onComplete() {
+        }
+    }
+    
     /**
      * Handle approve button click
      */
@@ -198,18 +301,19 @@ public class BookingManagementPanel extends JPanel {
         int selectedRow = bookingsTable.getSelectedRow();
         if (selectedRow >= 0) {
             String bookingId = (String) tableModel.getValueAt(selectedRow, 0);
-            if (BookingManager.getInstance().approveBooking(bookingId)) {
-                refreshBookings();
-                JOptionPane.showMessageDialog(mainFrame,
-                    "Booking approved successfully.",
-                    "Success",
-                    JOptionPane.INFORMATION_MESSAGE);
-            } else {
-                JOptionPane.showMessageDialog(mainFrame,
-                    "Failed to approve booking.",
-                    "Error",
-                    JOptionPane.ERROR_MESSAGE);
-            }
+            BookingManager.getInstance().approveBooking(bookingId).thenAcceptAsync(stored -> {
+                if (stored) {
+                    JOptionPane.showMessageDialog(mainFrame,
+                        "Booking approved successfully.",
+                        "Success",
+                        JOptionPane.INFORMATION_MESSAGE);
+                } else {
+                    JOptionPane.showMessageDialog(mainFrame,
+                        "Failed to approve booking.",
+                        "Error",
+                        JOptionPane.ERROR_MESSAGE);
+                }
+            }, SwingUtilities::invokeLater);
         } else {
             JOptionPane.showMessageDialog(mainFrame,
                 "Please select a booking to approve.",
@@ -225,18 +329,19 @@ public class BookingManagementPanel extends JPanel {
         int selectedRow = bookingsTable.getSelectedRow();
         if (selectedRow >= 0) {
             String bookingId = (String) tableModel.getValueAt(selectedRow, 0);
-            if (BookingManager.getInstance().denyBooking(bookingId)) {
-                refreshBookings();
-                JOptionPane.showMessageDialog(mainFrame,
-                    "Booking denied successfully.",
-                    "Success",
-                    JOptionPane.INFORMATION_MESSAGE);
-            } else {
-                JOptionPane.showMessageDialog(mainFrame,
-                    "Failed to deny booking.",
-                    "Error",
-                    JOptionPane.ERROR_MESSAGE);
-            }
+            BookingManager.getInstance().denyBooking(bookingId).thenAcceptAsync(stored -> {
+                if (stored) {
+                    JOptionPane.showMessageDialog(mainFrame,
+                        "Booking denied successfully.",
+                        "Success",
+                        JOptionPane.INFORMATION_MESSAGE);
+                } else {
+                    JOptionPane.showMessageDialog(mainFrame,
+                        "Failed to deny booking.",
+                        "Error",
+                        JOptionPane.ERROR_MESSAGE);
+                }
+            }, SwingUtilities::invokeLater);
         } else {
             JOptionPane.showMessageDialog(mainFrame,
                 "Please select a booking to deny.",
@@ -249,39 +354,8 @@ public class BookingManagementPanel extends JPanel {
      * Create an animated button with hover and click effects
      */
     private JButton createAnimatedButton(String text) {
-        JButton button = new JButton(text);
-        button.setFont(BUTTON_FONT);
-        button.setForeground(TEXT_COLOR);
-        button.setBackground(ACCENT_COLOR);
-        button.setBorderPainted(false);
-        button.setFocusPainted(false);
+        JButton button = new SkinnedButton(text, BUTTON_FONT, TEXT_COLOR, ACCENT_COLOR, HIGHLIGHT_COLOR);
         button.setPreferredSize(new Dimension(120, 40));
-        
-        // Add hover effect
-        button.addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseEntered(MouseEvent e) {
-                button.setBackground(HIGHLIGHT_COLOR);
-                button.setCursor(new Cursor(Cursor.HAND_CURSOR));
-            }
-            
-            @Override
-            public void mouseExited(MouseEvent e) {
-                button.setBackground(ACCENT_COLOR);
-                button.setCursor(new Cursor(Cursor.DEFAULT_CURSOR));
-            }
-            
-            @Override
-            public void mousePressed(MouseEvent e) {
-                button.setLocation(button.getX(), button.getY() + 2);
-            }
-            
-            @Override
-            public void mouseReleased(MouseEvent e) {
-                button.setLocation(button.getX(), button.getY() - 2);
-            }
-        });
-        
         return button;
     }
 }
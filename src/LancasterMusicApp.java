@@ -2,12 +2,9 @@ package com.lancaster.musicapp;
 
 import javax.swing.*;
 import javax.swing.border.*;
+import javax.swing.Timer;
 import java.awt.*;
 import java.awt.event.*;
-import java.sql.*;
-import java.sql.Connection;
-import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.awt.image.BufferedImage;
 import java.awt.RenderingHints;
 import java.awt.FontMetrics;
@@ -15,7 +12,7 @@ import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.Date;
 import java.util.List;
-import javax.swing.Timer;
+import java.util.function.Supplier;
 
 
 /**
@@ -30,7 +27,7 @@ public class LancasterMusicApp {
     private JPanel mainPanel;
     private JPanel navigationPanel;
     private JPanel contentPanel;
-    private CardLayout cardLayout;
+    private LazyCardLayout cardLayout;
     private Map<String, JPanel> screens;
 
     // Color scheme (updated per user requirements)
@@ -43,7 +40,9 @@ public class LancasterMusicApp {
     private static final Color GRADIENT_START = new Color(26, 37, 48); // Gradient start color
     private static final Color GRADIENT_END = new Color(45, 65, 85); // Gradient end color
     private static final Color PANEL_ACCENT_COLOR = new Color(147, 112, 219); // Light purple for accents
+    private static final Color PANEL_ACCENT_FADED_COLOR = new Color(147, 112, 219, 150); // Translucent accent for gradients
     private static final Color BUTTON_COLOR = new Color(101, 201, 21); // Green button color as requested
+    private static final Color BUTTON_HOVER_COLOR = new Color(121, 221, 41); // Slightly brighter button color for hover
 
     // Fonts
     private static final Font TITLE_FONT = new Font("Dialog", Font.BOLD, 48);
@@ -53,6 +52,9 @@ public class LancasterMusicApp {
     private static final Font BUTTON_FONT = new Font("Dialog", Font.BOLD, 16);
     private static final Font LABEL_FONT = new Font("Dialog", Font.BOLD, 14);
 
+    // Time each screen is shown during a class-data sharing training run
+    private static final int TRAINING_STEP = 1000; // milliseconds
+
     // Data structures for bookings and inquiries
     private List<Booking> Bookings = new ArrayList<>();
     private List<Enquiry> inquiries = new ArrayList<>();
@@ -61,298 +63,121 @@ public class LancasterMusicApp {
      * Constructor for LancasterMusicApp.
      */
     public LancasterMusicApp() {
-        initialize();
+        this(true);
+    }
+
+    /**
+     * Constructor for LancasterMusicApp.
+     * @param showWindow false to build the panels without a window, for headless benchmarks
+     */
+    LancasterMusicApp(boolean showWindow) {
+        initialize(showWindow);
     }
 
     /**
      * Initialize the application.
      */
-    private void initialize() {
+    private void initialize(boolean showWindow) {
+        StartupTrace.mark("event dispatch");
+
         // Set look and feel to system default
         try {
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
         } catch (Exception e) {
             e.printStackTrace();
         }
+        StartupTrace.mark("look and feel");
 
         // Create the main frame
-        mainFrame = new JFrame("Lancaster's Music Hall");
-        mainFrame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        mainFrame.setSize(1024, 768);
-        mainFrame.setLocationRelativeTo(null);
+        if (showWindow) {
+            mainFrame = new JFrame("Lancaster's Music Hall");
+            mainFrame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+            mainFrame.setSize(1024, 768);
+            mainFrame.setLocationRelativeTo(null);
+            StartupTrace.mark("main frame");
+        }
 
         // Create screens
         screens = new HashMap<>();
 
         // Create welcome panel
         createWelcomePanel();
+        StartupTrace.mark("welcome panel");
 
         // Create main application panel
         createMainPanel();
+        StartupTrace.mark("main panel");
+
+        if (!showWindow) {
+            return;
+        }
 
         // Set the initial content to the welcome panel
         mainFrame.setContentPane(welcomePanel);
 
         // Display the frame
         mainFrame.setVisible(true);
+        StartupTrace.mark("window shown");
+
+        // Build the screens the user is likely to open next while the welcome screen is shown
+        if (Boolean.parseBoolean(System.getProperty("lancaster.prebuildScreens", "true"))) {
+            cardLayout.prebuild(contentPanel, "home", "staffLogin", "venue", "largeBooking");
+        }
+
+        if (Boolean.getBoolean("lancaster.cdsTraining")) {
+            runCdsTraining();
+        }
     }
 
     /**
-     * Create the welcome panel.
+     * Show the welcome screen and then every main screen in turn, and exit. Used by the
+     * launcher's training run (launch.sh --train), where the JVM records the classes
+     * loaded on the way into a class-data sharing archive as it exits.
      */
-    private void createWelcomePanel() {
-        welcomePanel = new JPanel(new BorderLayout());
-        welcomePanel.setBackground(PRIMARY_COLOR);
-
-        // Create animated background
-        JPanel backgroundPanel = new JPanel() {
-            private List<Star> stars = new ArrayList<>();
-            private List<MovingCircle> circles = new ArrayList<>();
-            private List<FloatingShape> shapes = new ArrayList<>();
-            private Timer animationTimer;
-
-            {
-                // Initialize stars
-                for (int i = 0; i < 100; i++) {
-                    stars.add(new Star(
-                            (int)(Math.random() * 1024),
-                            (int)(Math.random() * 768),
-                            (int)(Math.random() * 3) + 1,
-                            (float)(Math.random() * 0.8f) + 0.2f
-                    ));
-                }
-                
-                // Initialize floating circles (Patreon-inspired)
-                for (int i = 0; i < 15; i++) {
-                    circles.add(new MovingCircle(
-                            (int)(Math.random() * 1024),
-                            (int)(Math.random() * 768),
-                            (int)(Math.random() * 40) + 10,
-                            new Color(
-                                (int)(Math.random() * 100) + 155,
-                                (int)(Math.random() * 100) + 155,
-                                (int)(Math.random() * 100) + 155,
-                                (int)(Math.random() * 80) + 20
-                            ),
-                            (float)(Math.random() * 0.8f - 0.4f),
-                            (float)(Math.random() * 0.8f - 0.4f)
-                    ));
-                }
-                
-                // Initialize floating shapes (Patreon-inspired)
-                String[] shapeTypes = {"circle", "square", "triangle"};
-                for (int i = 0; i < 12; i++) {
-                    shapes.add(new FloatingShape(
-                            (int)(Math.random() * 1024),
-                            (int)(Math.random() * 768),
-                            (int)(Math.random() * 30) + 15,
-                            new Color(
-                                (int)(Math.random() * 100) + 155,
-                                (int)(Math.random() * 100) + 155,
-                                (int)(Math.random() * 100) + 155,
-                                (int)(Math.random() * 60) + 40
-                            ),
-                            shapeTypes[i % 3],
-                            (float)(Math.random() * 0.6f - 0.3f),
-                            (float)(Math.random() * 0.6f - 0.3f)
-                    ));
-                }
-
-                // Set up animation timer
-                animationTimer = new Timer(50, e -> {
-                    for (Star star : stars) {
-                        star.twinkle();
-                    }
-                    for (MovingCircle circle : circles) {
-                        circle.move(getWidth(), getHeight());
-                    }
-                    for (FloatingShape shape : shapes) {
-                        shape.move(getWidth(), getHeight());
-                    }
-                    repaint();
-                });
-                animationTimer.start();
-            }
-
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                // Draw gradient background
-                GradientPaint gradient = new GradientPaint(
-                        0, 0, GRADIENT_START,
-                        getWidth(), getHeight(), GRADIENT_END);
-                g2d.setPaint(gradient);
-                g2d.fillRect(0, 0, getWidth(), getHeight());
-
-                // Draw floating circles (behind stars)
-                for (MovingCircle circle : circles) {
-                    circle.draw(g2d);
-                }
-                
-                // Draw floating shapes
-                for (FloatingShape shape : shapes) {
-                    shape.draw(g2d);
-                }
-
-                // Draw stars (on top)
-                for (Star star : stars) {
-                    star.draw(g2d);
-                }
-
-                g2d.dispose();
-            }
-
-            // Inner class for animated stars
-            private class Star {
-                private int x, y, size;
-                private float brightness;
-                private float phase = (float)(Math.random() * 2 * Math.PI);
-                private float speed = (float)(Math.random() * 0.1f) + 0.05f;
-
-                public Star(int x, int y, int size, float brightness) {
-                    this.x = x;
-                    this.y = y;
-                    this.size = size;
-                    this.brightness = brightness;
-                }
-
-                public void twinkle() {
-                    phase += speed;
-                    if (phase > 2 * Math.PI) {
-                        phase -= 2 * Math.PI;
-                    }
-                }
-
-                public void draw(Graphics2D g2d) {
-                    float alpha = (float)(0.3f + 0.7f * Math.sin(phase));
-                    g2d.setColor(new Color(1f, 1f, 1f, alpha * brightness));
-                    g2d.fillOval(x, y, size, size);
-                }
-            }
-            
-            // Inner class for moving circles (Patreon-inspired)
-            private class MovingCircle {
-                private float x, y;
-                private int size;
-                private Color color;
-                private float dx, dy;
-                private float phase = (float)(Math.random() * 2 * Math.PI);
-                private float pulseSpeed = (float)(Math.random() * 0.05f) + 0.02f;
-
-                public MovingCircle(int x, int y, int size, Color color, float dx, float dy) {
-                    this.x = x;
-                    this.y = y;
-                    this.size = size;
-                    this.color = color;
-                    this.dx = dx;
-                    this.dy = dy;
-                }
-
-                public void move(int maxWidth, int maxHeight) {
-                    // Update position
-                    x += dx;
-                    y += dy;
-                    
-                    // Bounce off edges
-                    if (x < 0) {
-                        x = 0;
-                        dx = -dx;
-                    } else if (x > maxWidth) {
-                        x = maxWidth;
-                        dx = -dx;
-                    }
-                    
-                    if (y < 0) {
-                        y = 0;
-                        dy = -dy;
-                    } else if (y > maxHeight) {
-                        y = maxHeight;
-                        dy = -dy;
-                    }
-                    
-                    // Update pulse phase
-                    phase += pulseSpeed;
-                    if (phase > 2 * Math.PI) {
-                        phase -= 2 * Math.PI;
-                    }
-                }
-
-                public void draw(Graphics2D g2d) {
-                    // Pulse size based on phase
-                    float pulseFactor = 0.8f + 0.2f * (float)Math.sin(phase);
-                    int currentSize = (int)(size * pulseFactor);
-                    
-                    // Draw circle with semi-transparency
-                    g2d.setColor(color);
-                    g2d.fillOval((int)x - currentSize/2, (int)y - currentSize/2, currentSize, currentSize);
-                }
+    private void runCdsTraining() {
+        Deque<String> remaining = new ArrayDeque<>(cardLayout.getNames());
+        Timer timer = new Timer(TRAINING_STEP, null);
+        timer.addActionListener(e -> {
+            if (mainFrame.getContentPane() != mainPanel) {
+                cardLayout.show(contentPanel, "home");
+                mainFrame.setContentPane(mainPanel);
+                mainFrame.revalidate();
+            } else if (!remaining.isEmpty()) {
+                cardLayout.show(contentPanel, remaining.poll());
+            } else {
+                timer.stop();
+                System.exit(0);
             }
-            
-            // Inner class for floating shapes (Patreon-inspired)
-            private class FloatingShape {
-                private float x, y;
-                private int size;
-                private Color color;
-                private String shapeType;
-                private float dx, dy;
-                private float rotation = 0;
-                private float rotationSpeed = (float)(Math.random() * 0.05f) - 0.025f;
-
-                public FloatingShape(int x, int y, int size, Color color, String shapeType, float dx, float dy) {
-                    this.x = x;
-                    this.y = y;
-                    this.size = size;
-                    this.color = color;
-                    this.shapeType = shapeType;
-                    this.dx = dx;
-                    this.dy = dy;
-                }
+            mainFrame.repaint();
+        });
+        timer.start();
+    }
 
-                public void move(int maxWidth, int maxHeight) {
-                    // Update position
-                    x += dx;
-                    y += dy;
-                    
-                    // Wrap around edges
-                    if (x < -size) x = maxWidth + size;
-                    if (x > maxWidth + size) x = -size;
-                    if (y < -size) y = maxHeight + size;
-                    if (y > maxHeight + size) y = -size;
-                    
-                    // Update rotation
-                    rotation += rotationSpeed;
-                    if (rotation > 2 * Math.PI) {
-                        rotation -= 2 * Math.PI;
-                    }
-                }
+    /**
+     * Get the welcome panel, the first screen shown.
+     */
+    JPanel getWelcomePanel() {
+        return welcomePanel;
+    }
 
-                public void draw(Graphics2D g2d) {
-                    Graphics2D g2dRotated = (Graphics2D) g2d.create();
-                    g2dRotated.setColor(color);
-                    
-                    // Translate to shape center for rotation
-                    g2dRotated.translate(x, y);
-                    g2dRotated.rotate(rotation);
-                    
-                    // Draw the appropriate shape
-                    if (shapeType.equals("circle")) {
-                        g2dRotated.fillOval(-size/2, -size/2, size, size);
-                    } else if (shapeType.equals("square")) {
-                        g2dRotated.fillRect(-size/2, -size/2, size, size);
-                    } else if (shapeType.equals("triangle")) {
-                        int[] xPoints = {0, -size/2, size/2};
-                        int[] yPoints = {-size/2, size/2, size/2};
-                        g2dRotated.fillPolygon(xPoints, yPoints, 3);
-                    }
-                    
-                    g2dRotated.dispose();
-                }
+    /**
+     * Create the welcome panel.
+     */
+    private void createWelcomePanel() {
+        welcomePanel = new JPanel(new BorderLayout()) {
+            @Override
+            public void paint(Graphics g) {
+                super.paint(g);
+                // Painting the welcome screen ends the startup trace
+                StartupTrace.firstFrame();
             }
         };
-        backgroundPanel.setOpaque(false);
+        welcomePanel.setBackground(PRIMARY_COLOR);
+
+        // Create animated background, with more particles on large kiosk displays
+        JPanel backgroundPanel = new ParticleBackground(GRADIENT_START, GRADIENT_END,
+            Integer.getInteger("lancaster.welcome.particles", ParticleBackground.DEFAULT_STAR_COUNT));
+        backgroundPanel.setLayout(new BorderLayout());
 
         // Create content panel
         JPanel contentPanel = new JPanel();
@@ -384,6 +209,7 @@ public class LancasterMusicApp {
         enterButton.setPreferredSize(new Dimension(300, 80));
         enterButton.setFont(new Font(BUTTON_FONT.getName(), Font.BOLD, 24)); // Larger font
         enterButton.addActionListener(e -> {
+            cardLayout.show(this.contentPanel, "home");
             mainFrame.setContentPane(mainPanel);
             mainFrame.revalidate();
             mainFrame.repaint();
@@ -415,9 +241,9 @@ public class LancasterMusicApp {
         contentPanel.add(staffLoginButton);
         contentPanel.add(Box.createVerticalGlue());
 
-        // Add panels to welcome panel
+        // Add panels to welcome panel, the content sits on top of the animated background
+        backgroundPanel.add(contentPanel, BorderLayout.CENTER);
         welcomePanel.add(backgroundPanel, BorderLayout.CENTER);
-        welcomePanel.add(contentPanel, BorderLayout.CENTER);
     }
 
     /**
@@ -436,7 +262,7 @@ public class LancasterMusicApp {
         mainPanel.add(navigationPanel, BorderLayout.WEST);
 
         // Create content panel with card layout
-        cardLayout = new CardLayout();
+        cardLayout = new LazyCardLayout();
         contentPanel = new JPanel(cardLayout);
         contentPanel.setBackground(PRIMARY_COLOR);
         mainPanel.add(contentPanel, BorderLayout.CENTER);
@@ -445,11 +271,9 @@ public class LancasterMusicApp {
         JPanel footerPanel = createFooterPanel();
         mainPanel.add(footerPanel, BorderLayout.SOUTH);
 
-        // Create screens
+        // Register screens, they are built when first shown. The home
+        // screen is shown when the user enters from the welcome screen.
         createScreens();
-
-        // Show home screen initially
-        cardLayout.show(contentPanel, "home");
     }
 
     /**
@@ -632,53 +456,43 @@ public class LancasterMusicApp {
     }
 
     /**
-     * Create the screens for the application.
+     * Register the screens for the application. Each screen is built the first
+     * time it is shown, see {@link LazyCardLayout}.
      */
     private void createScreens() {
-        // Create home screen
-        JPanel homeScreen = createHomeScreen();
-        screens.put("home", homeScreen);
-        contentPanel.add(homeScreen, "home");
-
-        // Create venue info screen
-        JPanel venueScreen = createVenueScreen();
-        screens.put("venue", venueScreen);
-        contentPanel.add(venueScreen, "venue");
-
-        // Create large booking screen with modern calendar
-        // Create color and font arrays to pass to ModernLargeBookingPanel
+        // Create color and font arrays to pass to the panels
         Color[] colors = {PRIMARY_COLOR, SECONDARY_COLOR, ACCENT_COLOR, TEXT_COLOR, HIGHLIGHT_COLOR, BORDER_COLOR};
         Font[] fonts = {HEADER_FONT, BUTTON_FONT, LABEL_FONT, BODY_FONT};
-        
-        // Create the new modern large booking panel
-        JPanel largeBookingScreen = new ModernLargeBookingPanel(mainFrame, Collections.singletonList(Bookings), Collections.singletonList(inquiries), colors, fonts);
-        screens.put("largeBooking", largeBookingScreen);
-        contentPanel.add(largeBookingScreen, "largeBooking");
-
-        // Create contact screen
-        JPanel contactScreen = createContactScreen();
-        screens.put("contact", contactScreen);
-        contentPanel.add(contactScreen, "contact");
-
-        // Create marketing screen
-        JPanel marketingScreen = createMarketingScreen();
-        screens.put("marketing", marketingScreen);
-        contentPanel.add(marketingScreen, "marketing");
-        
-        // Add the Patreons login screen to your screens map
-        JPanel patreonsPanel = new PatreonsLoginPanel();
-        screens.put("patreons", patreonsPanel);
-        contentPanel.add(patreonsPanel, "patreons");
-        
-        // Add staff login screen
-        JPanel staffLoginScreen = new StaffLoginPanel(mainFrame, cardLayout, contentPanel, colors, fonts);
-        screens.put("staffLogin", staffLoginScreen);
-        contentPanel.add(staffLoginScreen, "staffLogin");
-        
-        // Add booking management screen
-        JPanel bookingManagementScreen = new BookingManagementPanel(mainFrame, cardLayout, contentPanel, colors, fonts);
-        screens.put("bookingManagement", bookingManagementScreen);
-        contentPanel.add(bookingManagementScreen, "bookingManagement");
+
+        // Home and venue info screens
+        registerScreen("home", this::createHomeScreen);
+        registerScreen("venue", this::createVenueScreen);
+
+        // Large booking screen with modern calendar
+        registerScreen("largeBooking", () -> new ModernLargeBookingPanel(mainFrame,
+            Bookings, inquiries, colors, fonts));
+
+        // Contact and marketing screens
+        registerScreen("contact", this::createContactScreen);
+        registerScreen("marketing", this::createMarketingScreen);
+
+        // Patreons login screen
+        registerScreen("patreons", PatreonsLoginPanel::new);
+
+        // Staff login and booking management screens
+        registerScreen("staffLogin", () -> new StaffLoginPanel(mainFrame, cardLayout, contentPanel, colors, fonts));
+        registerScreen("bookingManagement", () -> new BookingManagementPanel(mainFrame, cardLayout, contentPanel, colors, fonts));
+    }
+
+    /**
+     * Register a screen with the card layout, and remember it in the screens map once built.
+     */
+    private void registerScreen(String name, Supplier<JPanel> factory) {
+        cardLayout.register(name, () -> {
+            JPanel screen = factory.get();
+            screens.put(name, screen);
+            return screen;
+        });
     }
 
     /**
@@ -1484,45 +1298,7 @@ public class LancasterMusicApp {
      * Create an animated button with hover and click effects.
      */
     private JButton createAnimatedButton(String text) {
-        JButton button = new JButton(text);
-        button.setFont(BUTTON_FONT);
-        button.setForeground(TEXT_COLOR);
-        button.setBackground(BUTTON_COLOR);
-        button.setBorderPainted(false);
-        button.setFocusPainted(false);
-
-        // Add hover effect
-        button.addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseEntered(MouseEvent e) {
-                // Slightly brighter version of button color for hover
-                Color brighterColor = new Color(
-                    Math.min(BUTTON_COLOR.getRed() + 20, 255),
-                    Math.min(BUTTON_COLOR.getGreen() + 20, 255),
-                    Math.min(BUTTON_COLOR.getBlue() + 20, 255)
-                );
-                button.setBackground(brighterColor);
-                button.setCursor(new Cursor(Cursor.HAND_CURSOR));
-            }
-
-            @Override
-            public void mouseExited(MouseEvent e) {
-                button.setBackground(BUTTON_COLOR);
-                button.setCursor(new Cursor(Cursor.DEFAULT_CURSOR));
-            }
-
-            @Override
-            public void mousePressed(MouseEvent e) {
-                button.setLocation(button.getX(), button.getY() + 2);
-            }
-
-            @Override
-            public void mouseReleased(MouseEvent e) {
-                button.setLocation(button.getX(), button.getY() - 2);
-            }
-        });
-
-        return button;
+        return new SkinnedButton(text, BUTTON_FONT, TEXT_COLOR, BUTTON_COLOR, BUTTON_HOVER_COLOR);
     }
 
     /**
@@ -1532,19 +1308,8 @@ public class LancasterMusicApp {
         JLabel label = new JLabel(text) {
             @Override
             protected void paintComponent(Graphics g) {
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                // Draw text shadow
-                g2d.setFont(getFont());
-                g2d.setColor(new Color(0, 0, 0, 100));
-                g2d.drawString(getText(), 2, getHeight() - 4);
-
-                // Draw text
-                g2d.setColor(getForeground());
-                g2d.drawString(getText(), 0, getHeight() - 6);
-
-                g2d.dispose();
+                // Draw text with its shadow, rendered once per size
+                RenderCache.paintShadowedText((Graphics2D) g, getWidth(), getHeight(), getText(), getFont(), getForeground());
             }
         };
         label.setFont(font);
@@ -1595,9 +1360,9 @@ public class LancasterMusicApp {
      * Create a gradient panel.
      */
     private class GradientPanel extends JPanel {
-        public static final int HORIZONTAL = 0;
-        public static final int VERTICAL = 1;
-        public static final int DIAGONAL = 2;
+        public static final int HORIZONTAL = RenderCache.HORIZONTAL;
+        public static final int VERTICAL = RenderCache.VERTICAL;
+        public static final int DIAGONAL = RenderCache.DIAGONAL;
 
         private Color startColor;
         private Color endColor;
@@ -1613,27 +1378,9 @@ public class LancasterMusicApp {
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
-            Graphics2D g2d = (Graphics2D) g.create();
-            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-            GradientPaint gradient;
-            switch (direction) {
-                case HORIZONTAL:
-                    gradient = new GradientPaint(0, 0, startColor, getWidth(), 0, endColor);
-                    break;
-                case VERTICAL:
-                    gradient = new GradientPaint(0, 0, startColor, 0, getHeight(), endColor);
-                    break;
-                case DIAGONAL:
-                default:
-                    gradient = new GradientPaint(0, 0, startColor, getWidth(), getHeight(), endColor);
-                    break;
-            }
 
-            g2d.setPaint(gradient);
-            g2d.fillRect(0, 0, getWidth(), getHeight());
-
-            g2d.dispose();
+            // Screens share the gradient image for their size
+            RenderCache.paintGradient((Graphics2D) g, getWidth(), getHeight(), startColor, endColor, direction);
         }
     }
 
@@ -1644,31 +1391,25 @@ public class LancasterMusicApp {
         JButton button = new JButton("Patreons Login") {
             @Override
             protected void paintComponent(Graphics g) {
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                // Draw button background with gradient
-                GradientPaint gradient = new GradientPaint(
-                        0, 0, PANEL_ACCENT_COLOR,
-                        getWidth(), getHeight(), new Color(PANEL_ACCENT_COLOR.getRed(), PANEL_ACCENT_COLOR.getGreen(), PANEL_ACCENT_COLOR.getBlue(), 150)
-                );
-                g2d.setPaint(gradient);
-                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 10, 10);
-
-                // Draw border
-                g2d.setColor(BORDER_COLOR);
-                g2d.setStroke(new BasicStroke(1));
-                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 10, 10);
-
-                // Draw text
-                g2d.setFont(getFont());
-                g2d.setColor(TEXT_COLOR);
-                FontMetrics fm = g2d.getFontMetrics();
-                int textWidth = fm.stringWidth(getText());
-                int textHeight = fm.getHeight();
-                g2d.drawString(getText(), (getWidth() - textWidth) / 2, (getHeight() + textHeight / 2) / 2);
-
-                g2d.dispose();
+                // The face never changes, so it is rendered once per size
+                RenderCache.paint((Graphics2D) g, getWidth(), getHeight(), false, (g2d, width, height) -> {
+                    // Draw button background with gradient
+                    g2d.setPaint(new GradientPaint(0, 0, PANEL_ACCENT_COLOR, width, height, PANEL_ACCENT_FADED_COLOR));
+                    g2d.fillRoundRect(0, 0, width, height, 10, 10);
+
+                    // Draw border
+                    g2d.setColor(BORDER_COLOR);
+                    g2d.setStroke(new BasicStroke(1));
+                    g2d.drawRoundRect(0, 0, width - 1, height - 1, 10, 10);
+
+                    // Draw text
+                    g2d.setFont(getFont());
+                    g2d.setColor(TEXT_COLOR);
+                    FontMetrics fm = g2d.getFontMetrics();
+                    int textWidth = fm.stringWidth(getText());
+                    int textHeight = fm.getHeight();
+                    g2d.drawString(getText(), (width - textWidth) / 2, (height + textHeight / 2) / 2);
+                }, "patreonsButton", getText(), getFont());
             }
         };
         button.setFont(BUTTON_FONT);
@@ -1829,249 +1570,16 @@ public class LancasterMusicApp {
         );
     }
 
-    /**
-     * Data class for storing booking information.
-     */
-    private class Booking {
-        private String bookingID;
-        private String customerBooked;
-        private String paymentType;
-        private String ticketsBooked;
-        private Date bookingDate;
-        private String rowsHeld;
-        private int totalCost;
-        public Booking(String bookingID, String customerBooked, String paymentType, String ticketsBooked, Date bookingDate, String rowsHeld, int totalCost) {
-            this.bookingID = bookingID;
-            this.customerBooked = customerBooked;
-            this.paymentType = paymentType;
-            this.ticketsBooked = ticketsBooked;
-            this.bookingDate = bookingDate;
-            this.rowsHeld = rowsHeld;
-            this.totalCost = totalCost;
-        }
-
-        // Getters and setters
-        private String getBookingID() { return bookingID; }
-        public void setBookingID(String bookingID) { this.bookingID = bookingID; }
-
-        public String getCustomerBooked() { return customerBooked; }
-        public void setCustomerBooked(String customerBooked) { this.customerBooked = customerBooked; }
-
-        public String getPaymentType() { return paymentType; }
-        public void setPaymentType(String paymentType) { this.paymentType = paymentType; }
-
-        public String getTicketsBooked() { return ticketsBooked; }
-        public void setTicketsBooked(String ticketsBooked) { this.ticketsBooked = ticketsBooked; }
-
-        private Date getBookingDate() { return bookingDate; }
-        public void setBookingDate(Date bookingDate) { this.bookingDate = bookingDate; }
-
-        public String getRowsHeld() { return rowsHeld; }
-        public void setRowsHeld(String rowsHeld) { this.rowsHeld = rowsHeld; }
-
-        public int getTotalCost() { return totalCost; }
-        public void setTotalCost(int totalCost) { this.totalCost = totalCost; }
-
-        @Override
-        public String toString() {
-            SimpleDateFormat dateFormat = new SimpleDateFormat("MMMM d,     yyyy");
-            return "Booking: " + customerBooked + " (" + paymentType + "), " +
-                   dateFormat.format(rowsHeld) + ", " + totalCost + " attendees";
-        }
-
-        //Set bookings from database
-        public boolean setBooking(String bookingID, String customerBooked, String paymentType,
-                                  String ticketsBooked, Date bookingDate, String rowsHeld,
-                                  int totalCost) {
-            boolean isInserted = false;
-
-            // SQL query to insert a new booking into the database
-            String query = "INSERT INTO BOOKINGS (BOOKING_ID, CUSTOMER_BOOKED, PAYMENT_TYPE, " +
-                    "TICKETS_BOOKED, BOOKING_DATE, ROWSHELD, TOTAL_COST, STATUS) " +
-                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-
-            try (Connection conn = Database.connection();  // Assuming Database.connection() provides a valid DB connection
-                 PreparedStatement ps = conn.prepareStatement(query)) {
-
-                // Set the parameters for the PreparedStatement
-                ps.setString(1, bookingID);
-                ps.setString(2, customerBooked);
-                ps.setString(3, paymentType);
-                ps.setString(4, ticketsBooked);
-                ps.setDate(5, new java.sql.Date(bookingDate.getTime()));  // Convert to java.sql.Date
-                ps.setString(6, rowsHeld);
-                ps.setInt(7, totalCost);
-                ps.setString(8, "Pending");  // Default status is Pending
-
-                // Execute the update (which will insert the booking)
-                int rowsAffected = ps.executeUpdate();
-
-                // Check if the booking was successfully inserted
-                if (rowsAffected > 0) {
-                    isInserted = true;
-                }
-
-            } catch (SQLException e) {
-                e.printStackTrace();  // Handle exceptions properly in production
-            }
-
-            return isInserted;  // Returns true if the booking was added successfully, false otherwise
-        }
-
-        //Load bookings from database
-        public Booking loadSpecificBooking(String bookingID) {
-            Booking booking = null;
-            String query = "SELECT * FROM BOOKINGS WHERE BOOKING_ID = ?";
-
-            try (Connection conn = Database.connection();
-                 PreparedStatement ps = conn.prepareStatement(query)) {
-
-                ps.setString(1, bookingID);
-                ResultSet rs = ps.executeQuery();
-
-                if (rs.next()) {
-                    booking = new Booking(
-                        rs.getString("BOOKING_ID"),
-                        rs.getString("CUSTOMER_BOOKED"),
-                        rs.getString("PAYMENT_TYPE"),
-                        rs.getString("TICKETS_BOOKED"),
-                        rs.getDate("BOOKING_DATE"),
-                        rs.getString("ROWSHELD"),
-                        rs.getInt("TOTAL_COST")
-                    );
-                }
-
-            } catch (SQLException e) {
-                e.printStackTrace();
-            }
-
-            return booking;
-        }
-    }
-
-    /**
-     * Data class for storing enquiry information.
-     */
-    private class Enquiry {
-        private String enquiryID;
-        private String customerName;
-        private String contactEmail;
-        private String contactPhone;
-        private String enquiryType;
-        private String enquiryDetails;
-        private Date enquiryDate;
-        private boolean isResolved;
-
-        public Enquiry(String enquiryID, String customerName, String contactEmail, String contactPhone,
-                      String enquiryType, String enquiryDetails, Date enquiryDate, boolean isResolved) {
-            this.enquiryID = enquiryID;
-            this.customerName = customerName;
-            this.contactEmail = contactEmail;
-            this.contactPhone = contactPhone;
-            this.enquiryType = enquiryType;
-            this.enquiryDetails = enquiryDetails;
-            this.enquiryDate = enquiryDate;
-            this.isResolved = isResolved;
-        }
-
-        // Getters and setters
-        public String getEnquiryID() { return enquiryID; }
-        public void setEnquiryID(String enquiryID) { this.enquiryID = enquiryID; }
-
-        public String getCustomerName() { return customerName; }
-        public void setCustomerName(String customerName) { this.customerName = customerName; }
-
-        public String getContactEmail() { return contactEmail; }
-        public void setContactEmail(String contactEmail) { this.contactEmail = contactEmail; }
-
-        public String getContactPhone() { return contactPhone; }
-        public void setContactPhone(String contactPhone) { this.contactPhone = contactPhone; }
-
-        public String getEnquiryType() { return enquiryType; }
-        public void setEnquiryType(String enquiryType) { this.enquiryType = enquiryType; }
-
-        public String getEnquiryDetails() { return enquiryDetails; }
-        public void setEnquiryDetails(String enquiryDetails) { this.enquiryDetails = enquiryDetails; }
-
-        public Date getEnquiryDate() { return enquiryDate; }
-        public void setEnquiryDate(Date enquiryDate) { this.enquiryDate = enquiryDate; }
-
-        public boolean isResolved() { return isResolved; }
-        public void setResolved(boolean resolved) { isResolved = resolved; }
-
-        @Override
-        public String toString() {
-            SimpleDateFormat dateFormat = new SimpleDateFormat("MMMM d, yyyy");
-            return "Enquiry: " + customerName + " (" + enquiryType + "), " +
-                   dateFormat.format(enquiryDate) + ", " + (isResolved ? "Resolved" : "Pending");
-        }
-    }
-
-    /**
-     * Inner class for institution group bookings.
-     */
-    private class InstitutionGroupBookings {
-        private String institutionName;
-        private String contactPerson;
-        private String contactEmail;
-        private String contactPhone;
-        private int groupSize;
-        private Date bookingDate;
-        private String specialRequirements;
-        private boolean isConfirmed;
-
-        public InstitutionGroupBookings(String institutionName, String contactPerson, String contactEmail,
-                                       String contactPhone, int groupSize, Date bookingDate,
-                                       String specialRequirements, boolean isConfirmed) {
-            this.institutionName = institutionName;
-            this.contactPerson = contactPerson;
-            this.contactEmail = contactEmail;
-            this.contactPhone = contactPhone;
-            this.groupSize = groupSize;
-            this.bookingDate = bookingDate;
-            this.specialRequirements = specialRequirements;
-            this.isConfirmed = isConfirmed;
-        }
-
-        // Getters and setters
-        public String getInstitutionName() { return institutionName; }
-        public void setInstitutionName(String institutionName) { this.institutionName = institutionName; }
-
-        public String getContactPerson() { return contactPerson; }
-        public void setContactPerson(String contactPerson) { this.contactPerson = contactPerson; }
-
-        public String getContactEmail() { return contactEmail; }
-        public void setContactEmail(String contactEmail) { this.contactEmail = contactEmail; }
-
-        public String getContactPhone() { return contactPhone; }
-        public void setContactPhone(String contactPhone) { this.contactPhone = contactPhone; }
-
-        public int getGroupSize() { return groupSize; }
-        public void setGroupSize(int groupSize) { this.groupSize = groupSize; }
-
-        public Date getBookingDate() { return bookingDate; }
-        public void setBookingDate(Date bookingDate) { this.bookingDate = bookingDate; }
-
-        public String getSpecialRequirements() { return specialRequirements; }
-        public void setSpecialRequirements(String specialRequirements) { this.specialRequirements = specialRequirements; }
-
-        public boolean isConfirmed() { return isConfirmed; }
-        public void setConfirmed(boolean confirmed) { isConfirmed = confirmed; }
-
-        @Override
-        public String toString() {
-            SimpleDateFormat dateFormat = new SimpleDateFormat("MMMM d, yyyy");
-            return "Institution Booking: " + institutionName + " (" + contactPerson + "), " +
-                   dateFormat.format(bookingDate) + ", " + groupSize + " attendees, " +
-                   (isConfirmed ? "Confirmed" : "Pending");
-        }
-    }
-
     /**
      * Main method to start the application.
      */
     public static void main(String[] args) {
+        StartupTrace.start();
+
         // Use SwingUtilities.invokeLater to ensure thread safety
         SwingUtilities.invokeLater(() -> new LancasterMusicApp());
+
+        // Share booking changes with other terminals, while the window is being built
+        BookingSync.startIfEnabled();
     }
 }
@@ -0,0 +1,90 @@
+package com.lancaster.musicapp;
+
+import javax.swing.Timer;
+import java.awt.*;
+import java.util.*;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * LazyCardLayout - A CardLayout whose cards are built the first time they are shown
+ * Screens are registered as factories instead of being constructed up front, so the
+ * application window appears without waiting for screens the user may never open.
+ * Code that only knows it has a CardLayout keeps working, because show() builds the
+ * card before showing it. Only use it on the Event Dispatch Thread.
+ */
+public class LazyCardLayout extends CardLayout {
+    // Pause between screens built ahead of time, so the screen on show stays responsive
+    private static final int PREBUILD_INTERVAL = 150; // milliseconds
+
+    private final Map<String, Supplier<? extends Component>> factories = new LinkedHashMap<>();
+    private final Set<String> built = new HashSet<>();
+
+    /**
+     * Register a card to be built when it is first needed
+     * @param name The card name used with show()
+     * @param factory Creates the card's component
+     */
+    public void register(String name, Supplier<? extends Component> factory) {
+        factories.put(name, factory);
+    }
+
+    /**
+     * Get the names of the registered cards, in the order they were registered
+     */
+    public List<String> getNames() {
+        return new ArrayList<>(factories.keySet());
+    }
+
+    /**
+     * Check whether a card has been built
+     * @param name The card name
+     * @return true if the card's component exists
+     */
+    public boolean isBuilt(String name) {
+        return built.contains(name);
+    }
+
+    /**
+     * Build a registered card and add it to its parent, if that has not happened yet
+     * @param parent The container laid out by this layout
+     * @param name The card name
+     */
+    public void build(Container parent, String name) {
+        Supplier<? extends Component> factory = factories.get(name);
+        if (factory == null || built.contains(name)) {
+            return;
+        }
+        built.add(name);
+        parent.add(factory.get(), name);
+    }
+
+    /**
+     * Show a card, building it first if needed
+     */
+    @Override
+    public void show(Container parent, String name) {
+        build(parent, name);
+        super.show(parent, name);
+    }
+
+    /**
+     * Build cards ahead of time, one at a time with a pause between them,
+     * so they are ready when the user navigates to them
+     * @param parent The container laid out by this layout
+     * @param names The cards to build, most likely first
+     */
+    public void prebuild(Container parent, String... names) {
+        Deque<String> queue = new ArrayDeque<>(Arrays.asList(names));
+        Timer timer = new Timer(PREBUILD_INTERVAL, null);
+        timer.addActionListener(e -> {
+            String name = queue.poll();
+            if (name == null) {
+                timer.stop();
+            } else {
+                build(parent, name);
+            }
+        });
+        timer.start();
+    }
+}
@@ -5,9 +5,16 @@ import javax.swing.border.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.image.BufferedImage;
-import java.text.SimpleDateFormat;
+import java.beans.PropertyChangeListener;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -23,24 +30,38 @@ public class ModernCalendar extends JPanel {
     private static final Color SELECTED_BG = new Color(255, 140, 0);
     private static final Color TODAY_BG = new Color(138, 43, 226, 100);
     private static final Color HOVER_BG = new Color(138, 43, 226, 50);
+    private static final Color RANGE_BG = new Color(255, 140, 0, 110);
     private static final Color WEEKEND_BG = new Color(45, 65, 85);
     private static final Color BORDER_COLOR = new Color(0, 0, 0);
     private static final Color TEXT_COLOR = new Color(255, 255, 255);
     private static final Color OTHER_MONTH_TEXT = new Color(150, 150, 150);
+    private static final Font DAY_FONT = new Font("Dialog", Font.PLAIN, 12);
+    private static final Font COUNT_FONT = new Font("Dialog", Font.BOLD, 9);
+    private static final Color PENDING_TEXT = new Color(255, 200, 80);
+    private static final Color APPROVED_TEXT = new Color(120, 230, 140);
     
-    // Animation constants
-    private static final int ANIMATION_DURATION = 300; // milliseconds
-    private static final int ANIMATION_STEPS = 30;
+    // Heatmap shades from lightly booked to full, built once
+    private static final int HEAT_LEVELS = 10;
+    private static final Color[] HEAT_RAMP = new Color[HEAT_LEVELS + 1];
+    static {
+        for (int level = 1; level <= HEAT_LEVELS; level++) {
+            HEAT_RAMP[level] = new Color(255, 69, 0, 20 + level * 14);
+        }
+    }
     
-    /**
-     * Calculate adaptive timing based on system performance.
-     */
-    private int calculateAdaptiveTiming() {
-        // Simple approach based on available processors
-        int processors = Runtime.getRuntime().availableProcessors();
-        return Math.max(5, ANIMATION_DURATION / (ANIMATION_STEPS * Math.max(1, processors / 2)));
+    // Day numbers as text, so painting a cell does not build strings
+    private static final String[] DAY_NUMBERS = new String[32];
+    static {
+        for (int day = 0; day < DAY_NUMBERS.length; day++) {
+            DAY_NUMBERS[day] = String.valueOf(day);
+        }
     }
     
+    // Animation constants
+    private static final int ANIMATION_DURATION = 300; // milliseconds
+    private static final int FRAME_BUDGET = AnimationClock.FRAME_INTERVAL; // milliseconds per frame at 60 FPS
+    private static final int MIN_ANIMATION_FRAMES = 4; // below this the slide is skipped
+    
     // UI components
     private JPanel headerPanel;
     private JPanel daysPanel;
@@ -49,38 +70,89 @@ public class ModernCalendar extends JPanel {
     private JButton nextButton;
     private JButton yearButton;
     private JPanel yearSelectionPanel;
+    private YearOverviewPanel yearOverview;
     private JPanel contentPanel; // New container panel for CENTER content
-    private JPanel[][] dayPanels;
-    private JLabel[][] dayLabels;
+    private MonthTransitionPanel transitionPanel;
+    private DayGridPanel dayGrid;
+    
+    // Formatters for the header and getFormattedDate(), shared by all calendars
+    private static final DateTimeFormatter MONTH_YEAR_FORMAT = DateTimeFormatter.ofPattern("MMMM yyyy");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+    
+    // Month layouts are the same for every calendar, so they are cached once per month
+    private static final Map<YearMonth, MonthLayout> MONTH_LAYOUTS = new ConcurrentHashMap<>();
     
     // Calendar state
-    private Calendar calendar;
-    private Calendar selectedDate;
-    private Calendar displayedMonth;
+    private LocalDate selectedDate;
+    private YearMonth displayedMonth;
     private AtomicBoolean animating = new AtomicBoolean(false); // Using AtomicBoolean for thread safety
     private int animationDirection = 0; // -1 for prev, 1 for next
-    private int animationStep = 0;
-    private javax.swing.Timer animationTimer;
+    private float animationProgress = 0; // 0.0 to 1.0
+    private long animationStartTime;
+    private long lastFrameTime;
+    private int frameInterval = FRAME_BUDGET;
+    private int slideDuration = ANIMATION_DURATION;
+    private AnimationClock.Animation transitionAnimation;
+    
+    // Measured paint costs, averaged: a whole month, from full day grid paints and
+    // month image renders, and one frame of the slide
+    private long monthPaintNanos = 0;
+    private long slideFrameNanos = 0;
+    private boolean renderingMonthImage = false;
     private AtomicBoolean yearSelectionVisible = new AtomicBoolean(false); // Using AtomicBoolean for thread safety
     
+    // Month images for the slide, rendered once when a transition starts
+    private Image outgoingMonthImage;
+    private Image incomingMonthImage;
+    private double monthImageScale = 1.0;
+    
+    // Day cell contents, indexed by row * 7 + col
+    private static final int CELL_PREVIOUS_MONTH = -1;
+    private static final int CELL_CURRENT_MONTH = 0;
+    private static final int CELL_NEXT_MONTH = 1;
+    private final int[] cellDays = new int[42];
+    private final int[] cellMonths = new int[42];
+    private final Color[] cellBackgrounds = new Color[42];
+    private int todayCell = -1;
+    
+    // First day shown in the grid and the selected range, as epoch days
+    private static final long NO_RANGE = Long.MIN_VALUE;
+    private long gridStartDay;
+    private long rangeStartDay = NO_RANGE;
+    private long rangeEndDay = NO_RANGE;
+    private long dragAnchorDay = NO_RANGE;
+    
+    // Booking heatmap, indexed like the cells above
+    private boolean heatmapVisible = false;
+    private int heatmapCapacity = BookingDensityIndex.DEFAULT_CAPACITY;
+    private BookingDensityIndex.MonthDensity monthDensity;
+    private final Color[] cellHeat = new Color[42];
+    private final String[] cellPending = new String[42];
+    private final String[] cellApproved = new String[42];
+    private final PropertyChangeListener densityListener = evt -> SwingUtilities.invokeLater(() -> {
+        Object month = evt.getNewValue();
+        if (month == null || month.equals(displayedMonth)) {
+            refreshDensity();
+            dayGrid.repaint();
+        }
+    });
+    // Whether densityListener is registered, which it is only while the heatmap is
+    // visible and the calendar is in a window, so a closed calendar is not kept alive
+    private boolean listeningForDensity = false;
+    
     // Day cell tracking
     private int hoveredRow = -1;
     private int hoveredCol = -1;
     private int selectedRow = -1;
     private int selectedCol = -1;
     
-    // Mouse event debouncing
-    private javax.swing.Timer hoverDebounceTimer;
-    private static final int HOVER_DEBOUNCE_DELAY = 20; // milliseconds
-    
     /**
      * Constructor for ModernCalendar.
      */
     public ModernCalendar() {
         // Initialize calendars
-        calendar = Calendar.getInstance();
-        selectedDate = (Calendar) calendar.clone();
-        displayedMonth = (Calendar) calendar.clone();
+        selectedDate = LocalDate.now();
+        displayedMonth = YearMonth.from(selectedDate);
         
         // Set up panel
         setLayout(new BorderLayout(0, 0));
@@ -98,43 +170,37 @@ public class ModernCalendar extends JPanel {
         createDaysPanel();
         createYearSelectionPanel();
         
+        // Create the card that plays month transitions
+        transitionPanel = new MonthTransitionPanel();
+        contentPanel.add(transitionPanel, "transition");
+        
         // Add content panel to main panel
         add(contentPanel, BorderLayout.CENTER);
         
-        // Set up animation timer with adaptive timing based on system performance
-        int adaptiveStepDuration = calculateAdaptiveTiming();
-        animationTimer = new javax.swing.Timer(adaptiveStepDuration, e -> {
-            animationStep++;
-            if (animationStep >= ANIMATION_STEPS) {
-                animationStep = 0;
+        // Set up the transition on the shared animation clock, frames are spaced
+        // by an interval chosen per transition from measured frame times
+        transitionAnimation = now -> {
+            long elapsed = now - animationStartTime;
+            if (elapsed >= slideDuration) {
+                animationProgress = 0;
                 
-                // Update displayed month after animation completes
-                synchronized (displayedMonth) {
-                    if (animationDirection < 0) {
-                        displayedMonth.add(Calendar.MONTH, -1);
-                    } else if (animationDirection > 0) {
-                        displayedMonth.add(Calendar.MONTH, 1);
-                    }
-                    updateCalendarDisplay();
-                }
+                // Swap the live days panel back in after animation completes
+                ((CardLayout) contentPanel.getLayout()).show(contentPanel, "days");
                 
                 animating.set(false);
-                animationTimer.stop();
-                // Use more targeted repaint
-                repaint(0, headerPanel.getHeight(), getWidth(), getHeight() - headerPanel.getHeight());
-            } else {
-                // Use more targeted repaint
-                repaint(0, headerPanel.getHeight(), getWidth(), getHeight() - headerPanel.getHeight());
+                return false;
             }
-        });
-        
-        // Set up hover debounce timer with more targeted repaint
-        hoverDebounceTimer = new javax.swing.Timer(HOVER_DEBOUNCE_DELAY, e -> {
-            // Use more targeted repaint for hover effects
-            repaint(0, headerPanel.getHeight(), getWidth(), getHeight() - headerPanel.getHeight());
-            hoverDebounceTimer.stop();
-        });
-        hoverDebounceTimer.setRepeats(false);
+            
+            if (now - lastFrameTime >= frameInterval - 1) {
+                // Progress follows the clock, so slow frames are dropped rather than queued
+                animationProgress = (float) elapsed / slideDuration;
+                lastFrameTime = now;
+                
+                // Only the transition card changes between frames
+                transitionPanel.repaint();
+            }
+            return true;
+        };
         
         // Initial update
         updateCalendarDisplay();
@@ -164,19 +230,13 @@ public class ModernCalendar extends JPanel {
         // Add action listeners
         prevButton.addActionListener(e -> {
             if (!animating.get() && !yearSelectionVisible.get()) {
-                animating.set(true);
-                animationDirection = -1;
-                animationStep = 0;
-                animationTimer.start();
+                startMonthTransition(-1);
             }
         });
         
         nextButton.addActionListener(e -> {
             if (!animating.get() && !yearSelectionVisible.get()) {
-                animating.set(true);
-                animationDirection = 1;
-                animationStep = 0;
-                animationTimer.start();
+                startMonthTransition(1);
             }
         });
         
@@ -253,154 +313,12 @@ public class ModernCalendar extends JPanel {
             dayNamesPanel.add(label);
         }
         
-        // Create days grid panel
-        JPanel daysGridPanel = new JPanel(new GridLayout(6, 7, 2, 2));
-        daysGridPanel.setBackground(BORDER_COLOR); // Use border color for grid lines
-        daysGridPanel.setBorder(new EmptyBorder(2, 2, 2, 2));
-        
-        // Create day panels and labels
-        dayPanels = new JPanel[6][7];
-        dayLabels = new JLabel[6][7];
-        
-        for (int row = 0; row < 6; row++) {
-            for (int col = 0; col < 7; col++) {
-                // Create panel for this day
-                JPanel dayPanel = new JPanel(new BorderLayout());
-                dayPanel.setBackground(DAYS_BG);
-                dayPanel.setBorder(new EmptyBorder(5, 5, 5, 5));
-                dayPanel.setPreferredSize(new Dimension(30, 30)); // Ensure minimum size
-                
-                // Create label for this day
-                JLabel dayLabel = new JLabel("", SwingConstants.CENTER);
-                dayLabel.setFont(new Font("Dialog", Font.PLAIN, 12));
-                dayLabel.setForeground(TEXT_COLOR);
-                
-                // Add label to panel
-                dayPanel.add(dayLabel, BorderLayout.CENTER);
-                
-                // Add panel to grid
-                daysGridPanel.add(dayPanel);
-                
-                // Store references
-                dayPanels[row][col] = dayPanel;
-                dayLabels[row][col] = dayLabel;
-                
-                // Add mouse listeners for hover and selection effects
-                final int finalRow = row;
-                final int finalCol = col;
-                
-                dayPanel.addMouseListener(new MouseAdapter() {
-                    @Override
-                    public void mouseEntered(MouseEvent e) {
-                        if (!animating.get() && !yearSelectionVisible.get()) {
-                            hoveredRow = finalRow;
-                            hoveredCol = finalCol;
-                            // Use debounce timer instead of direct repaint
-                            if (!hoverDebounceTimer.isRunning()) {
-                                hoverDebounceTimer.restart();
-                            }
-                        }
-                    }
-                    
-                    @Override
-                    public void mouseExited(MouseEvent e) {
-                        if (!animating.get() && !yearSelectionVisible.get()) {
-                            hoveredRow = -1;
-                            hoveredCol = -1;
-                            // Use debounce timer instead of direct repaint
-                            if (!hoverDebounceTimer.isRunning()) {
-                                hoverDebounceTimer.restart();
-                            }
-                        }
-                    }
-                    
-                    @Override
-                    public void mouseClicked(MouseEvent e) {
-                        if (!animating.get() && !yearSelectionVisible.get()) {
-                            // Get the day number from the label
-                            String dayText = dayLabels[finalRow][finalCol].getText();
-                            if (!dayText.isEmpty()) {
-                                try {
-                                    int day = Integer.parseInt(dayText);
-                                    
-                                    // Update selected date
-                                    Calendar newDate = (Calendar) displayedMonth.clone();
-                                    
-                                    // Improved logic for determining if day belongs to previous/next month
-                                    boolean isPreviousMonth = false;
-                                    boolean isNextMonth = false;
-                                    
-                                    // Check if this is a day from the previous month
-                                    if (finalRow == 0) {
-                                        Calendar firstDayOfMonth = (Calendar) displayedMonth.clone();
-                                        firstDayOfMonth.set(Calendar.DAY_OF_MONTH, 1);
-                                        int firstDayOfWeek = firstDayOfMonth.get(Calendar.DAY_OF_WEEK) - 1;
-                                        
-                                        if (finalCol < firstDayOfWeek) {
-                                            isPreviousMonth = true;
-                                        }
-                                    }
-                                    
-                                    // Check if this is a day from the next month
-                                    if (!isPreviousMonth) {
-                                        int daysInMonth = displayedMonth.getActualMaximum(Calendar.DAY_OF_MONTH);
-                                        Calendar firstDayOfMonth = (Calendar) displayedMonth.clone();
-                                        firstDayOfMonth.set(Calendar.DAY_OF_MONTH, 1);
-                                        int firstDayOfWeek = firstDayOfMonth.get(Calendar.DAY_OF_WEEK) - 1;
-                                        
-                                        int dayPosition = finalRow * 7 + finalCol;
-                                        int firstDayPosition = firstDayOfWeek;
-                                        int lastDayPosition = firstDayPosition + daysInMonth - 1;
-                                        
-                                        if (dayPosition > lastDayPosition) {
-                                            isNextMonth = true;
-                                        }
-                                    }
-                                    
-                                    // Adjust month if day is from previous/next month
-                                    if (isPreviousMonth) {
-                                        newDate.add(Calendar.MONTH, -1);
-                                    } else if (isNextMonth) {
-                                        newDate.add(Calendar.MONTH, 1);
-                                    }
-                                    
-                                    newDate.set(Calendar.DAY_OF_MONTH, day);
-                                    selectedDate = newDate;
-                                    
-                                    // Update displayed month if necessary
-                                    if (isPreviousMonth) {
-                                        synchronized (displayedMonth) {
-                                            displayedMonth.add(Calendar.MONTH, -1);
-                                            updateCalendarDisplay();
-                                        }
-                                    } else if (isNextMonth) {
-                                        synchronized (displayedMonth) {
-                                            displayedMonth.add(Calendar.MONTH, 1);
-                                            updateCalendarDisplay();
-                                        }
-                                    } else {
-                                        // Just update selection
-                                        selectedRow = finalRow;
-                                        selectedCol = finalCol;
-                                        repaint();
-                                    }
-                                    
-                                    // Fire property change event
-                                    firePropertyChange("calendar", null, selectedDate);
-                                } catch (NumberFormatException ex) {
-                                    // Handle invalid day text
-                                    System.err.println("Invalid day format: " + dayText);
-                                }
-                            }
-                        }
-                    }
-                });
-            }
-        }
+        // Create days grid, a single component that paints all 42 cells
+        dayGrid = new DayGridPanel();
         
         // Add components to days panel
         daysPanel.add(dayNamesPanel, BorderLayout.NORTH);
-        daysPanel.add(daysGridPanel, BorderLayout.CENTER);
+        daysPanel.add(dayGrid, BorderLayout.CENTER);
         
         // Add days panel to content panel
         contentPanel.add(daysPanel, "days");
@@ -415,67 +333,8 @@ public class ModernCalendar extends JPanel {
         yearSelectionPanel.setLayout(new BorderLayout());
         yearSelectionPanel.setBackground(DAYS_BG);
         
-        // Create year selection grid
-        JPanel yearGrid = new JPanel(new GridLayout(5, 4, 5, 5));
-        yearGrid.setBackground(BORDER_COLOR);
-        yearGrid.setBorder(new EmptyBorder(5, 5, 5, 5));
-        
-        // Get current year
-        int currentYear = Calendar.getInstance().get(Calendar.YEAR);
-        
-        // Create year buttons
-        for (int i = currentYear - 10; i <= currentYear + 9; i++) {
-            final int year = i;
-            JButton yearButton = new JButton(String.valueOf(year));
-            yearButton.setFont(new Font("Dialog", Font.PLAIN, 14));
-            yearButton.setForeground(TEXT_COLOR);
-            yearButton.setBackground(DAYS_BG);
-            yearButton.setBorderPainted(false);
-            yearButton.setFocusPainted(false);
-            yearButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
-            
-            // Highlight current year
-            if (year == currentYear) {
-                yearButton.setBackground(TODAY_BG);
-                yearButton.setFont(new Font("Dialog", Font.BOLD, 14));
-            }
-            
-            // Highlight selected year
-            if (year == selectedDate.get(Calendar.YEAR)) {
-                yearButton.setBackground(SELECTED_BG);
-            }
-            
-            // Add hover effect
-            yearButton.addMouseListener(new MouseAdapter() {
-                @Override
-                public void mouseEntered(MouseEvent e) {
-                    if (year != selectedDate.get(Calendar.YEAR) && year != currentYear) {
-                        yearButton.setBackground(HOVER_BG);
-                    }
-                }
-                
-                @Override
-                public void mouseExited(MouseEvent e) {
-                    if (year != selectedDate.get(Calendar.YEAR) && year != currentYear) {
-                        yearButton.setBackground(DAYS_BG);
-                    }
-                }
-            });
-            
-            // Add action listener
-            yearButton.addActionListener(e -> {
-                // Update displayed month
-                synchronized (displayedMonth) {
-                    displayedMonth.set(Calendar.YEAR, year);
-                    updateCalendarDisplay();
-                }
-                
-                // Hide year selection panel
-                toggleYearSelection();
-            });
-            
-            yearGrid.add(yearButton);
-        }
+        // Create the twelve month overview
+        yearOverview = new YearOverviewPanel();
         
         // Add close button
         JButton closeButton = new JButton("Close");
@@ -492,13 +351,132 @@ public class ModernCalendar extends JPanel {
         closePanel.add(closeButton);
         
         // Add components to year selection panel
-        yearSelectionPanel.add(yearGrid, BorderLayout.CENTER);
+        yearSelectionPanel.add(yearOverview, BorderLayout.CENTER);
         yearSelectionPanel.add(closePanel, BorderLayout.SOUTH);
         
         // Add year selection panel to content panel
         contentPanel.add(yearSelectionPanel, "yearSelection");
     }
     
+    /**
+     * Start sliding to the previous or next month.
+     * Both months are rendered into cached images here, once, so the animation
+     * frames only blit the two images at different offsets.
+     */
+    private void startMonthTransition(int direction) {
+        int width = daysPanel.getWidth();
+        int height = daysPanel.getHeight();
+        
+        animating.set(true);
+        animationDirection = direction;
+        animationProgress = 0;
+        
+        // Render the month currently on screen
+        boolean canAnimate = isShowing() && width > 0 && height > 0 && planTransition();
+        if (canAnimate) {
+            prepareMonthImages(width, height);
+            renderMonthImage(outgoingMonthImage);
+        }
+        
+        // Move to the new month, this is the only display update for the transition
+        displayedMonth = displayedMonth.plusMonths(direction);
+        updateCalendarDisplay();
+        
+        if (!canAnimate) {
+            animating.set(false);
+            return;
+        }
+        
+        // Render the month that is sliding in
+        daysPanel.validate();
+        renderMonthImage(incomingMonthImage);
+        
+        // Play the transition
+        ((CardLayout) contentPanel.getLayout()).show(contentPanel, "transition");
+        animationStartTime = AnimationClock.now();
+        lastFrameTime = animationStartTime;
+        AnimationClock.getInstance().start(transitionAnimation);
+    }
+    
+    /**
+     * Plan the next transition from the measured paint costs. Rendering both month
+     * images comes first and uses up part of the transition's duration; the slide
+     * gets the rest. Its frames run at the frame budget while they paint within it,
+     * and at twice their paint time when they do not, leaving the Event Dispatch
+     * Thread room for input between frames.
+     * 
+     * @return false if so few frames would fit that the slide should be skipped
+     */
+    private boolean planTransition() {
+        // Until a slide has been painted, a frame is assumed to cost as much as a month
+        long frameNanos = slideFrameNanos > 0 ? slideFrameNanos : monthPaintNanos;
+        double frameMillis = frameNanos / 1_000_000.0;
+        frameInterval = frameMillis <= FRAME_BUDGET ? FRAME_BUDGET : (int) Math.ceil(frameMillis * 2);
+        
+        int renderMillis = (int) Math.ceil(monthPaintNanos * 2 / 1_000_000.0);
+        int steps = (ANIMATION_DURATION - renderMillis) / frameInterval;
+        slideDuration = steps * frameInterval;
+        
+        // The costs keep being measured by the day grid, so a skipped slide is tried
+        // again as soon as painting gets faster
+        return steps >= MIN_ANIMATION_FRAMES;
+    }
+    
+    /**
+     * Add a paint time to an average that follows recent paints
+     */
+    private static long averagePaintTime(long average, long sample) {
+        return average == 0 ? sample : (average * 3 + sample) / 4;
+    }
+    
+    /**
+     * Allocate the month images, reusing the previous pair when the size and
+     * screen scale are unchanged.
+     */
+    private void prepareMonthImages(int width, int height) {
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        double scale = gc != null ? gc.getDefaultTransform().getScaleX() : 1.0;
+        int imageWidth = (int) Math.ceil(width * scale);
+        int imageHeight = (int) Math.ceil(height * scale);
+        
+        if (outgoingMonthImage != null && scale == monthImageScale
+                && outgoingMonthImage.getWidth(null) == imageWidth
+                && outgoingMonthImage.getHeight(null) == imageHeight) {
+            return;
+        }
+        
+        if (outgoingMonthImage != null) {
+            outgoingMonthImage.flush();
+            incomingMonthImage.flush();
+        }
+        
+        monthImageScale = scale;
+        if (gc != null) {
+            outgoingMonthImage = gc.createCompatibleImage(imageWidth, imageHeight, Transparency.OPAQUE);
+            incomingMonthImage = gc.createCompatibleImage(imageWidth, imageHeight, Transparency.OPAQUE);
+        } else {
+            outgoingMonthImage = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_RGB);
+            incomingMonthImage = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_RGB);
+        }
+    }
+    
+    /**
+     * Paint the days panel, as it currently stands, into a month image.
+     */
+    private void renderMonthImage(Image image) {
+        long start = System.nanoTime();
+        renderingMonthImage = true;
+        Graphics2D g2d = (Graphics2D) image.getGraphics();
+        g2d.scale(monthImageScale, monthImageScale);
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setColor(DAYS_BG);
+        g2d.fillRect(0, 0, daysPanel.getWidth(), daysPanel.getHeight());
+        daysPanel.paint(g2d);
+        g2d.dispose();
+        renderingMonthImage = false;
+        monthPaintNanos = averagePaintTime(monthPaintNanos, System.nanoTime() - start);
+    }
+    
     /**
      * Toggle the year selection panel visibility.
      */
@@ -509,9 +487,8 @@ public class ModernCalendar extends JPanel {
             cl.show(contentPanel, "days");
             yearSelectionVisible.set(false);
         } else {
-            // Recreate year selection panel to update with current year
-            contentPanel.remove(yearSelectionPanel);
-            createYearSelectionPanel();
+            // Open the overview on the year being displayed
+            yearOverview.setYear(displayedMonth.getYear());
             cl.show(contentPanel, "yearSelection");
             yearSelectionVisible.set(true);
         }
@@ -521,87 +498,270 @@ public class ModernCalendar extends JPanel {
      * Update the calendar display with the current month.
      */
     private void updateCalendarDisplay() {
+        MonthLayout layout = getMonthLayout(displayedMonth);
+        
         // Update month/year label
-        SimpleDateFormat monthYearFormat = new SimpleDateFormat("MMMM yyyy");
-        monthYearLabel.setText(monthYearFormat.format(displayedMonth.getTime()));
-        
-        // Get first day of month and total days
-        Calendar firstDayOfMonth = (Calendar) displayedMonth.clone();
-        firstDayOfMonth.set(Calendar.DAY_OF_MONTH, 1);
-        int firstDayOfWeek = firstDayOfMonth.get(Calendar.DAY_OF_WEEK) - 1; // 0 = Sunday
-        int daysInMonth = displayedMonth.getActualMaximum(Calendar.DAY_OF_MONTH);
-        
-        // Get days in previous month
-        Calendar prevMonth = (Calendar) displayedMonth.clone();
-        prevMonth.add(Calendar.MONTH, -1);
-        int daysInPrevMonth = prevMonth.getActualMaximum(Calendar.DAY_OF_MONTH);
-        
-        // Clear all day labels
-        for (int row = 0; row < 6; row++) {
-            for (int col = 0; col < 7; col++) {
-                dayLabels[row][col].setText("");
-                dayPanels[row][col].setBackground(DAYS_BG);
-                
-                // Set weekend background
-                if (col == 0 || col == 6) {
-                    dayPanels[row][col].setBackground(WEEKEND_BG);
-                }
-            }
+        monthYearLabel.setText(layout.title);
+        
+        // Fill the day cells from the cached layout
+        System.arraycopy(layout.days, 0, cellDays, 0, 42);
+        System.arraycopy(layout.months, 0, cellMonths, 0, 42);
+        gridStartDay = displayedMonth.atDay(1).toEpochDay() - layout.firstDayOfWeek;
+        
+        // Find today and the selected date, if they are in this month
+        LocalDate today = LocalDate.now();
+        todayCell = displayedMonth.equals(YearMonth.from(today))
+            ? layout.firstDayOfWeek + today.getDayOfMonth() - 1 : -1;
+        int selectedCell = displayedMonth.equals(YearMonth.from(selectedDate))
+            ? layout.firstDayOfWeek + selectedDate.getDayOfMonth() - 1 : -1;
+        
+        for (int cell = 0; cell < 42; cell++) {
+            cellBackgrounds[cell] = unselectedBackground(cell);
         }
         
-        // Fill days from previous month
-        for (int i = 0; i < firstDayOfWeek; i++) {
-            int day = daysInPrevMonth - firstDayOfWeek + i + 1;
-            dayLabels[0][i].setText(String.valueOf(day));
-            dayLabels[0][i].setForeground(OTHER_MONTH_TEXT);
+        // Highlight selected date
+        if (selectedCell >= 0) {
+            cellBackgrounds[selectedCell] = SELECTED_BG;
+            selectedRow = selectedCell / 7;
+            selectedCol = selectedCell % 7;
+        } else {
+            selectedRow = -1;
+            selectedCol = -1;
         }
         
-        // Fill days from current month
-        int row = 0;
-        int col = firstDayOfWeek;
+        refreshDensity();
+        dayGrid.repaint();
+    }
+    
+    /**
+     * Get the cached layout for a month, building it the first time it is shown.
+     */
+    private static MonthLayout getMonthLayout(YearMonth month) {
+        return MONTH_LAYOUTS.computeIfAbsent(month, MonthLayout::new);
+    }
+    
+    /**
+     * Show or hide the booking heatmap. Each day is shaded by how much of the
+     * capacity is booked, with pending and approved counts in the corners.
+     * 
+     * @param visible Whether to show the heatmap
+     */
+    public void setHeatmapVisible(boolean visible) {
+        if (heatmapVisible == visible) {
+            return;
+        }
+        heatmapVisible = visible;
+        updateDensityListener();
         
-        for (int day = 1; day <= daysInMonth; day++) {
-            dayLabels[row][col].setText(String.valueOf(day));
-            dayLabels[row][col].setForeground(TEXT_COLOR);
+        refreshDensity();
+        dayGrid.repaint();
+    }
+    
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (heatmapVisible) {
+            // Months may have changed while the calendar was not listening
+            updateDensityListener();
+            refreshDensity();
+        }
+    }
+    
+    @Override
+    public void removeNotify() {
+        super.removeNotify();
+        updateDensityListener();
+    }
+    
+    /**
+     * Listen for changes to the booking totals only while the heatmap is visible and
+     * the calendar is in a window
+     */
+    private void updateDensityListener() {
+        boolean listen = heatmapVisible && isDisplayable();
+        if (listen == listeningForDensity) {
+            return;
+        }
+        listeningForDensity = listen;
+        if (listen) {
+            BookingDensityIndex.getInstance().addMonthChangeListener(densityListener);
+        } else {
+            BookingDensityIndex.getInstance().removeMonthChangeListener(densityListener);
+        }
+    }
+    
+    /**
+     * Set the number of attendees that counts as a fully booked day.
+     * 
+     * @param capacity The venue capacity
+     */
+    public void setHeatmapCapacity(int capacity) {
+        heatmapCapacity = Math.max(1, capacity);
+        applyDensity(monthDensity);
+        dayGrid.repaint();
+        
+        // The year overview's thumbnails are shaded for the old capacity
+        yearOverview.flushThumbnails();
+        yearOverview.repaint();
+    }
+    
+    /**
+     * Apply the booking totals for the displayed month. Totals that are already
+     * cached are applied straight away; otherwise they are computed in the
+     * background and applied when ready, if the month is still on display.
+     * The adjacent months are fetched too, so flipping to them is instant.
+     */
+    private void refreshDensity() {
+        if (!heatmapVisible) {
+            applyDensity(null);
+            return;
+        }
+        
+        YearMonth month = displayedMonth;
+        BookingDensityIndex index = BookingDensityIndex.getInstance();
+        BookingDensityIndex.MonthDensity ready = index.getMonthIfReady(month);
+        
+        if (ready != null) {
+            applyDensity(ready);
+        } else {
+            // Keep the old totals for this month on screen until the new ones arrive
+            if (monthDensity != null && !monthDensity.getMonth().equals(month)) {
+                applyDensity(null);
+            }
+            index.getMonth(month).thenAccept(density -> SwingUtilities.invokeLater(() -> {
+                if (heatmapVisible && density.getMonth().equals(displayedMonth)) {
+                    applyDensity(density);
+                    dayGrid.repaint();
+                }
+            }));
+        }
+        
+        index.getMonth(month.minusMonths(1));
+        index.getMonth(month.plusMonths(1));
+    }
+    
+    /**
+     * Work out the heatmap shade and count labels for each cell.
+     */
+    private void applyDensity(BookingDensityIndex.MonthDensity density) {
+        monthDensity = density;
+        for (int cell = 0; cell < 42; cell++) {
+            cellHeat[cell] = null;
+            cellPending[cell] = null;
+            cellApproved[cell] = null;
             
-            // Highlight today
-            Calendar today = Calendar.getInstance();
-            if (displayedMonth.get(Calendar.YEAR) == today.get(Calendar.YEAR) &&
-                displayedMonth.get(Calendar.MONTH) == today.get(Calendar.MONTH) &&
-                day == today.get(Calendar.DAY_OF_MONTH)) {
-                dayPanels[row][col].setBackground(TODAY_BG);
+            if (density == null || cellMonths[cell] != CELL_CURRENT_MONTH) {
+                continue;
             }
             
-            // Highlight selected date
-            if (displayedMonth.get(Calendar.YEAR) == selectedDate.get(Calendar.YEAR) &&
-                displayedMonth.get(Calendar.MONTH) == selectedDate.get(Calendar.MONTH) &&
-                day == selectedDate.get(Calendar.DAY_OF_MONTH)) {
-                dayPanels[row][col].setBackground(SELECTED_BG);
-                selectedRow = row;
-                selectedCol = col;
+            int day = cellDays[cell];
+            if (density.getAttendees(day) > 0) {
+                int level = Math.round(density.getLoad(day, heatmapCapacity) * HEAT_LEVELS);
+                cellHeat[cell] = HEAT_RAMP[Math.max(1, level)];
             }
             
-            // Move to next cell
-            col++;
-            if (col > 6) {
-                col = 0;
-                row++;
+            int pending = density.getPendingCount(day);
+            int approved = density.getApprovedCount(day);
+            if (pending > 0) {
+                cellPending[cell] = countText(pending);
+            }
+            if (approved > 0) {
+                cellApproved[cell] = countText(approved);
             }
         }
+    }
+    
+    private static String countText(int count) {
+        return count < DAY_NUMBERS.length ? DAY_NUMBERS[count] : String.valueOf(count);
+    }
+    
+    /**
+     * Get the background for a cell when it is not selected.
+     */
+    private Color unselectedBackground(int cell) {
+        if (cell == todayCell) {
+            return TODAY_BG;
+        }
+        int col = cell % 7;
+        return (col == 0 || col == 6) ? WEEKEND_BG : DAYS_BG;
+    }
+    
+    /**
+     * Select the day shown in a grid cell, moving to the adjacent month when the
+     * cell belongs to it.
+     */
+    private void selectCell(int row, int col) {
+        int cell = row * 7 + col;
+        int monthOffset = cellMonths[cell];
         
-        // Fill days from next month
-        int nextMonthDay = 1;
-        while (row < 6) {
-            dayLabels[row][col].setText(String.valueOf(nextMonthDay));
-            dayLabels[row][col].setForeground(OTHER_MONTH_TEXT);
-            
-            nextMonthDay++;
-            col++;
-            if (col > 6) {
-                col = 0;
-                row++;
+        // Update selected date, a single day replaces any range
+        selectedDate = displayedMonth.plusMonths(monthOffset).atDay(cellDays[cell]);
+        setRange(NO_RANGE, NO_RANGE);
+        
+        if (monthOffset != CELL_CURRENT_MONTH) {
+            // Update displayed month to show the selected day
+            displayedMonth = displayedMonth.plusMonths(monthOffset);
+            updateCalendarDisplay();
+        } else {
+            // Just update selection, repainting the old and new cells
+            if (selectedRow >= 0) {
+                cellBackgrounds[selectedRow * 7 + selectedCol] = unselectedBackground(selectedRow * 7 + selectedCol);
+                dayGrid.repaintCell(selectedRow, selectedCol);
             }
+            selectedRow = row;
+            selectedCol = col;
+            cellBackgrounds[cell] = SELECTED_BG;
+            dayGrid.repaintCell(row, col);
+        }
+        
+        // Fire property change event
+        firePropertyChange("calendar", null, getCalendar());
+    }
+    
+    /**
+     * Highlight a range of days, repainting only the cells whose highlight changes.
+     */
+    private void setRange(long startDay, long endDay) {
+        long oldStart = rangeStartDay;
+        long oldEnd = rangeEndDay;
+        rangeStartDay = Math.min(startDay, endDay);
+        rangeEndDay = Math.max(startDay, endDay);
+        
+        for (int cell = 0; cell < 42; cell++) {
+            long day = gridStartDay + cell;
+            boolean wasInRange = day >= oldStart && day <= oldEnd;
+            if (wasInRange != isInRange(cell)) {
+                dayGrid.repaintCell(cell / 7, cell % 7);
+            }
+        }
+    }
+    
+    /**
+     * Check whether a cell falls inside the selected range.
+     */
+    private boolean isInRange(int cell) {
+        long day = gridStartDay + cell;
+        return rangeStartDay != NO_RANGE && day >= rangeStartDay && day <= rangeEndDay;
+    }
+    
+    /**
+     * Finish a range gesture, firing a single "selectedRange" property change.
+     */
+    private void commitRange() {
+        firePropertyChange("selectedRange", null, getSelectedRange());
+    }
+    
+    /**
+     * Get the selected range of days. When only one day is selected the range
+     * starts and ends on that day.
+     * 
+     * @return The selected range
+     */
+    public DateRange getSelectedRange() {
+        if (rangeStartDay == NO_RANGE) {
+            return new DateRange(selectedDate, selectedDate);
         }
+        return new DateRange(LocalDate.ofEpochDay(rangeStartDay), LocalDate.ofEpochDay(rangeEndDay));
     }
     
     /**
@@ -610,7 +770,10 @@ public class ModernCalendar extends JPanel {
      * @return The selected date
      */
     public Calendar getCalendar() {
-        return (Calendar) selectedDate.clone();
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(selectedDate.getYear(), selectedDate.getMonthValue() - 1, selectedDate.getDayOfMonth());
+        return calendar;
     }
     
     /**
@@ -619,7 +782,7 @@ public class ModernCalendar extends JPanel {
      * @return The selected date as a java.util.Date
      */
     public java.util.Date getSelectedDate() {
-        return selectedDate.getTime();
+        return getCalendar().getTime();
     }
     
     /**
@@ -628,8 +791,7 @@ public class ModernCalendar extends JPanel {
      * @return The formatted date string
      */
     public String getFormattedDate() {
-        SimpleDateFormat dateFormat = new SimpleDateFormat("MM/dd/yyyy");
-        return dateFormat.format(selectedDate.getTime());
+        return DATE_FORMAT.format(selectedDate);
     }
     
     /**
@@ -638,114 +800,629 @@ public class ModernCalendar extends JPanel {
      * @param date The date to select
      */
     public void setSelectedDate(Date date) {
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(date);
-        selectedDate = calendar;
+        // java.sql.Date does not support toInstant(), so go through the epoch millis
+        selectedDate = Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault()).toLocalDate();
         
         // Update displayed month to match selected date
-        displayedMonth.set(Calendar.YEAR, selectedDate.get(Calendar.YEAR));
-        displayedMonth.set(Calendar.MONTH, selectedDate.get(Calendar.MONTH));
+        displayedMonth = YearMonth.from(selectedDate);
         
         updateCalendarDisplay();
         repaint();
         
         // Fire property change event
-        firePropertyChange("calendar", null, selectedDate);
+        firePropertyChange("calendar", null, getCalendar());
     }
     
-    @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        
-        // Apply hover effect if a cell is being hovered over
-        if (hoveredRow >= 0 && hoveredCol >= 0 && !animating.get() && !yearSelectionVisible.get()) {
-            // Get the day panel being hovered over
-            JPanel hoveredPanel = dayPanels[hoveredRow][hoveredCol];
-            
-            // Only apply hover effect if the panel is visible and contains a day
-            if (hoveredPanel.isVisible() && !dayLabels[hoveredRow][hoveredCol].getText().isEmpty()) {
-                // Save original background color
-                Color originalColor = hoveredPanel.getBackground();
-                
-                // Apply hover effect only if not already selected
-                if (!(hoveredRow == selectedRow && hoveredCol == selectedCol)) {
-                    hoveredPanel.setBackground(HOVER_BG);
-                }
-                
-                // Repaint the specific panel
-                hoveredPanel.repaint();
+    /**
+     * An inclusive range of days selected by dragging or shift-clicking.
+     */
+    public static final class DateRange {
+        private final LocalDate start;
+        private final LocalDate end;
+        
+        public DateRange(LocalDate start, LocalDate end) {
+            this.start = start.isAfter(end) ? end : start;
+            this.end = start.isAfter(end) ? start : end;
+        }
+        
+        // Getters
+        public LocalDate getStart() { return start; }
+        public LocalDate getEnd() { return end; }
+        public long getDayCount() { return ChronoUnit.DAYS.between(start, end) + 1; }
+        
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof DateRange
+                && start.equals(((DateRange) other).start) && end.equals(((DateRange) other).end);
+        }
+        
+        @Override
+        public int hashCode() {
+            return start.hashCode() * 31 + end.hashCode();
+        }
+        
+        @Override
+        public String toString() {
+            return DATE_FORMAT.format(start) + " - " + DATE_FORMAT.format(end);
+        }
+    }
+    
+    /**
+     * The 42 cells of a month grid, with days from the adjacent months filling
+     * the first and last rows.
+     */
+    private static final class MonthLayout {
+        final String title;
+        final int firstDayOfWeek; // 0 = Sunday
+        final int[] days = new int[42];
+        final int[] months = new int[42];
+        
+        MonthLayout(YearMonth month) {
+            title = MONTH_YEAR_FORMAT.format(month);
+            firstDayOfWeek = month.atDay(1).getDayOfWeek().getValue() % 7;
+            int daysInMonth = month.lengthOfMonth();
+            int daysInPrevMonth = month.minusMonths(1).lengthOfMonth();
+            
+            // Fill days from previous month
+            for (int i = 0; i < firstDayOfWeek; i++) {
+                days[i] = daysInPrevMonth - firstDayOfWeek + i + 1;
+                months[i] = CELL_PREVIOUS_MONTH;
+            }
+            
+            // Fill days from current month
+            for (int day = 1; day <= daysInMonth; day++) {
+                days[firstDayOfWeek + day - 1] = day;
+                months[firstDayOfWeek + day - 1] = CELL_CURRENT_MONTH;
+            }
+            
+            // Fill days from next month
+            int nextMonthDay = 1;
+            for (int cell = firstDayOfWeek + daysInMonth; cell < 42; cell++) {
+                days[cell] = nextMonthDay++;
+                months[cell] = CELL_NEXT_MONTH;
             }
         }
+    }
+    
+    /**
+     * A month thumbnail in the year overview, and whether it was rendered with
+     * the month's booking totals or before they were ready.
+     */
+    private static final class Thumbnail {
+        final Image image;
+        final boolean hasDensity;
         
-        // Only paint animation if active
-        if (animating.get() && !yearSelectionVisible.get()) {
-            Graphics2D g2d = (Graphics2D) g.create();
-            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        Thumbnail(Image image, boolean hasDensity) {
+            this.image = image;
+            this.hasDensity = hasDensity;
+        }
+    }
+    
+    /**
+     * Twelve month overview of a year with the booking density of every day.
+     * Each month is rendered once into a cached thumbnail, and a thumbnail is
+     * only rendered again when bookings in its month change, so paging between
+     * years just draws images. The arrows in the header and the mouse wheel
+     * change the year, and clicking a month shows it in the calendar.
+     */
+    private class YearOverviewPanel extends JComponent {
+        private static final int HEADER_HEIGHT = 30;
+        private static final int TITLE_HEIGHT = 16;
+        private static final int COLUMNS = 4;
+        private static final int ROWS = 3;
+        private static final int GAP = 6;
+        private static final int MAX_THUMBNAILS = 60; // five years
+        
+        private final Font titleFont = new Font("Dialog", Font.BOLD, 11);
+        private final Font yearFont = new Font("Dialog", Font.BOLD, 16);
+        private final String[] monthNames = new String[12];
+        
+        private int year;
+        private String yearText;
+        private int thumbnailWidth;
+        private int thumbnailHeight;
+        private double thumbnailScale = 1.0;
+        
+        // Least recently drawn thumbnails are dropped first
+        private final Map<YearMonth, Thumbnail> thumbnails = new LinkedHashMap<YearMonth, Thumbnail>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<YearMonth, Thumbnail> eldest) {
+                if (size() > MAX_THUMBNAILS) {
+                    eldest.getValue().image.flush();
+                    return true;
+                }
+                return false;
+            }
+        };
+        
+        // Drop the thumbnail of a month whose bookings changed
+        private final PropertyChangeListener bookingListener = evt -> SwingUtilities.invokeLater(() -> {
+            Object month = evt.getNewValue();
+            if (month == null) {
+                flushThumbnails();
+            } else {
+                invalidateThumbnail((YearMonth) month);
+            }
+            repaint();
+        });
+        
+        YearOverviewPanel() {
+            setOpaque(true);
+            setCursor(new Cursor(Cursor.HAND_CURSOR));
+            year = displayedMonth.getYear();
+            yearText = String.valueOf(year);
             
-            // Get content area
-            int x = 0;
-            int y = headerPanel.getHeight();
-            int width = getWidth();
-            int height = getHeight() - headerPanel.getHeight();
+            DateTimeFormatter monthFormat = DateTimeFormatter.ofPattern("MMM");
+            for (int month = 0; month < 12; month++) {
+                monthNames[month] = monthFormat.format(YearMonth.of(2000, month + 1));
+            }
             
-            // Calculate animation progress (0.0 to 1.0)
-            float progress = (float) animationStep / ANIMATION_STEPS;
+            addMouseListener(new MouseAdapter() {
+                @Override
+                public void mouseClicked(MouseEvent e) {
+                    if (e.getY() < HEADER_HEIGHT) {
+                        // Arrows at either end of the header
+                        if (e.getX() < getWidth() / 3) {
+                            setYear(year - 1);
+                        } else if (e.getX() > getWidth() * 2 / 3) {
+                            setYear(year + 1);
+                        }
+                        return;
+                    }
+                    
+                    int month = monthAt(e.getX(), e.getY());
+                    if (month >= 0) {
+                        displayedMonth = YearMonth.of(year, month + 1);
+                        updateCalendarDisplay();
+                        toggleYearSelection();
+                    }
+                }
+            });
+            addMouseWheelListener(e -> {
+                if (e.getWheelRotation() != 0) {
+                    setYear(year + e.getWheelRotation());
+                }
+            });
+        }
+        
+        @Override
+        public void addNotify() {
+            super.addNotify();
+            BookingDensityIndex.getInstance().addMonthChangeListener(bookingListener);
+        }
+        
+        @Override
+        public void removeNotify() {
+            BookingDensityIndex.getInstance().removeMonthChangeListener(bookingListener);
+            flushThumbnails();
+            super.removeNotify();
+        }
+        
+        /**
+         * Show a year, and start fetching the booking totals of the years either side.
+         */
+        void setYear(int year) {
+            this.year = year;
+            yearText = String.valueOf(year);
             
-            // Create offscreen images for current and next/prev month
-            BufferedImage currentMonth = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-            BufferedImage otherMonth = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            BookingDensityIndex index = BookingDensityIndex.getInstance();
+            for (int month = 1; month <= 12; month++) {
+                index.getMonth(YearMonth.of(year - 1, month));
+                index.getMonth(YearMonth.of(year + 1, month));
+            }
+            repaint();
+        }
+        
+        private int monthX(int col) {
+            return GAP + col * (thumbnailWidth + GAP);
+        }
+        
+        private int monthY(int row) {
+            return HEADER_HEIGHT + GAP + row * (thumbnailHeight + GAP);
+        }
+        
+        /**
+         * Get the month (0 to 11) under a point, or -1 between months.
+         */
+        private int monthAt(int x, int y) {
+            for (int month = 0; month < 12; month++) {
+                int mx = monthX(month % COLUMNS);
+                int my = monthY(month / COLUMNS);
+                if (x >= mx && x < mx + thumbnailWidth && y >= my && y < my + thumbnailHeight) {
+                    return month;
+                }
+            }
+            return -1;
+        }
+        
+        private void invalidateThumbnail(YearMonth month) {
+            Thumbnail thumbnail = thumbnails.remove(month);
+            if (thumbnail != null) {
+                thumbnail.image.flush();
+            }
+        }
+        
+        private void flushThumbnails() {
+            for (Thumbnail thumbnail : thumbnails.values()) {
+                thumbnail.image.flush();
+            }
+            thumbnails.clear();
+        }
+        
+        @Override
+        protected void paintComponent(Graphics g) {
+            Graphics2D g2d = (Graphics2D) g.create();
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
             
-            Graphics2D currentG = currentMonth.createGraphics();
-            Graphics2D otherG = otherMonth.createGraphics();
+            // Thumbnails are rendered for one size, so start again when it changes
+            GraphicsConfiguration gc = getGraphicsConfiguration();
+            double scale = gc != null ? gc.getDefaultTransform().getScaleX() : 1.0;
+            int width = Math.max(1, (getWidth() - GAP) / COLUMNS - GAP);
+            int height = Math.max(1, (getHeight() - HEADER_HEIGHT - GAP) / ROWS - GAP);
+            if (width != thumbnailWidth || height != thumbnailHeight || scale != thumbnailScale) {
+                flushThumbnails();
+                thumbnailWidth = width;
+                thumbnailHeight = height;
+                thumbnailScale = scale;
+            }
             
-            // Enable anti-aliasing
-            currentG.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-            otherG.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setColor(BORDER_COLOR);
+            g2d.fillRect(0, 0, getWidth(), getHeight());
             
-            // Draw current month
-            daysPanel.paint(currentG);
+            // Header with the year and arrows
+            g2d.setColor(HEADER_BG);
+            g2d.fillRect(0, 0, getWidth(), HEADER_HEIGHT);
+            g2d.setFont(yearFont);
+            g2d.setColor(HEADER_TEXT);
+            FontMetrics fm = g2d.getFontMetrics();
+            int baseline = (HEADER_HEIGHT - fm.getHeight()) / 2 + fm.getAscent();
+            g2d.drawString(yearText, (getWidth() - fm.stringWidth(yearText)) / 2, baseline);
+            g2d.drawString("◀", 10, baseline);
+            g2d.drawString("▶", getWidth() - 10 - fm.stringWidth("▶"), baseline);
             
-            // Draw next/prev month (temporarily modify displayedMonth)
-            synchronized (displayedMonth) {
-                // Save current state
-                Calendar savedMonth = (Calendar) displayedMonth.clone();
+            // Months
+            for (int month = 0; month < 12; month++) {
+                int x = monthX(month % COLUMNS);
+                int y = monthY(month / COLUMNS);
+                YearMonth yearMonth = YearMonth.of(year, month + 1);
                 
-                // Modify to show next/prev month
-                if (animationDirection < 0) {
-                    displayedMonth.add(Calendar.MONTH, -1);
-                } else {
-                    displayedMonth.add(Calendar.MONTH, 1);
+                Thumbnail thumbnail = thumbnails.get(yearMonth);
+                if (thumbnail == null) {
+                    thumbnail = renderThumbnail(yearMonth, gc);
+                    thumbnails.put(yearMonth, thumbnail);
                 }
+                g2d.drawImage(thumbnail.image, x, y, thumbnailWidth, thumbnailHeight, null);
                 
-                // Update display for other month
-                updateCalendarDisplay();
+                // Outline the month shown in the calendar
+                if (yearMonth.equals(displayedMonth)) {
+                    g2d.setColor(SELECTED_BG);
+                    g2d.drawRect(x - 1, y - 1, thumbnailWidth + 1, thumbnailHeight + 1);
+                }
+            }
+            
+            g2d.dispose();
+        }
+        
+        /**
+         * Render a month with each day shaded by its booking density. If the
+         * totals are not ready the month is rendered without them, and rendered
+         * again once they arrive.
+         */
+        private Thumbnail renderThumbnail(YearMonth month, GraphicsConfiguration gc) {
+            BookingDensityIndex index = BookingDensityIndex.getInstance();
+            BookingDensityIndex.MonthDensity density = index.getMonthIfReady(month);
+            if (density == null) {
+                index.getMonth(month).thenRun(() -> SwingUtilities.invokeLater(() -> {
+                    Thumbnail stale = thumbnails.get(month);
+                    if (stale != null && !stale.hasDensity) {
+                        invalidateThumbnail(month);
+                        repaint();
+                    }
+                }));
+            }
+            
+            int imageWidth = (int) Math.ceil(thumbnailWidth * thumbnailScale);
+            int imageHeight = (int) Math.ceil(thumbnailHeight * thumbnailScale);
+            Image image = gc != null
+                ? gc.createCompatibleImage(imageWidth, imageHeight, Transparency.OPAQUE)
+                : new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_RGB);
+            
+            Graphics2D g2d = (Graphics2D) image.getGraphics();
+            g2d.scale(thumbnailScale, thumbnailScale);
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2d.setColor(DAYS_BG);
+            g2d.fillRect(0, 0, thumbnailWidth, thumbnailHeight);
+            
+            // Month name
+            g2d.setColor(DAY_NAMES_BG);
+            g2d.fillRect(0, 0, thumbnailWidth, TITLE_HEIGHT);
+            g2d.setFont(titleFont);
+            g2d.setColor(HEADER_TEXT);
+            FontMetrics fm = g2d.getFontMetrics();
+            String name = monthNames[month.getMonthValue() - 1];
+            g2d.drawString(name, (thumbnailWidth - fm.stringWidth(name)) / 2,
+                (TITLE_HEIGHT - fm.getHeight()) / 2 + fm.getAscent());
+            
+            // Days of the month, as small squares
+            MonthLayout layout = getMonthLayout(month);
+            int gridHeight = thumbnailHeight - TITLE_HEIGHT;
+            LocalDate today = LocalDate.now();
+            int todayIndex = month.equals(YearMonth.from(today))
+                ? layout.firstDayOfWeek + today.getDayOfMonth() - 1 : -1;
+            
+            for (int cell = 0; cell < 42; cell++) {
+                if (layout.months[cell] != CELL_CURRENT_MONTH) {
+                    continue;
+                }
+                int col = cell % 7;
+                int row = cell / 7;
+                int x = col * thumbnailWidth / 7 + 1;
+                int y = TITLE_HEIGHT + row * gridHeight / 6 + 1;
+                int w = (col + 1) * thumbnailWidth / 7 - x;
+                int h = TITLE_HEIGHT + (row + 1) * gridHeight / 6 - y;
                 
-                // Draw other month
-                daysPanel.paint(otherG);
+                g2d.setColor(col == 0 || col == 6 ? WEEKEND_BG : DAYS_BG.brighter());
+                g2d.fillRect(x, y, w, h);
                 
-                // Restore original state
-                displayedMonth = savedMonth;
-                updateCalendarDisplay();
+                int day = layout.days[cell];
+                if (density != null && density.getAttendees(day) > 0) {
+                    int level = Math.round(density.getLoad(day, heatmapCapacity) * HEAT_LEVELS);
+                    g2d.setColor(HEAT_RAMP[Math.max(1, level)]);
+                    g2d.fillRect(x, y, w, h);
+                }
+                if (cell == todayIndex) {
+                    g2d.setColor(TODAY_BG);
+                    g2d.fillRect(x, y, w, h);
+                }
             }
             
-            // Clean up graphics contexts
-            currentG.dispose();
-            otherG.dispose();
+            g2d.dispose();
+            return new Thumbnail(image, density != null);
+        }
+    }
+    
+    /**
+     * Card that slides between the two cached month images.
+     */
+    private class MonthTransitionPanel extends JComponent {
+        MonthTransitionPanel() {
+            setOpaque(true);
+        }
+        
+        @Override
+        protected void paintComponent(Graphics g) {
+            if (outgoingMonthImage == null || incomingMonthImage == null) {
+                return;
+            }
+            long start = System.nanoTime();
             
-            // Calculate slide positions
-            int slideOffset = (int) (width * progress) * animationDirection;
+            int width = getWidth();
+            int height = getHeight();
             
-            // Draw current month sliding out
-            g2d.drawImage(currentMonth, x - slideOffset, y, null);
+            // Calculate slide position from animation progress (0.0 to 1.0)
+            int slideOffset = (int) (width * animationProgress) * animationDirection;
             
-            // Draw other month sliding in
+            // Draw current month sliding out and the other month sliding in
+            g.drawImage(outgoingMonthImage, -slideOffset, 0, width, height, null);
             if (animationDirection < 0) {
-                g2d.drawImage(otherMonth, x - width + slideOffset, y, null);
+                g.drawImage(incomingMonthImage, -width - slideOffset, 0, width, height, null);
             } else {
-                g2d.drawImage(otherMonth, x + width - slideOffset, y, null);
+                g.drawImage(incomingMonthImage, width - slideOffset, 0, width, height, null);
+            }
+            
+            slideFrameNanos = averagePaintTime(slideFrameNanos, System.nanoTime() - start);
+        }
+    }
+    
+    /**
+     * The month grid. One component paints all 42 day cells and resolves mouse
+     * positions to cells arithmetically, so a month change is a single repaint
+     * and hover or selection changes repaint only the affected cells.
+     */
+    private class DayGridPanel extends JComponent {
+        private static final int INSET = 2;
+        private static final int GAP = 2;
+        
+        DayGridPanel() {
+            setOpaque(true);
+            setPreferredSize(new Dimension(7 * 30 + 6 * GAP + 2 * INSET, 6 * 30 + 5 * GAP + 2 * INSET));
+            
+            MouseAdapter mouseHandler = new MouseAdapter() {
+                @Override
+                public void mouseMoved(MouseEvent e) {
+                    if (!animating.get() && !yearSelectionVisible.get()) {
+                        setHoveredCell(rowAt(e.getY()), colAt(e.getX()));
+                    }
+                }
+                
+                @Override
+                public void mouseExited(MouseEvent e) {
+                    if (!animating.get() && !yearSelectionVisible.get()) {
+                        setHoveredCell(-1, -1);
+                    }
+                }
+                
+                @Override
+                public void mousePressed(MouseEvent e) {
+                    if (animating.get() || yearSelectionVisible.get()) {
+                        return;
+                    }
+                    long day = gridStartDay + rowAt(e.getY()) * 7 + colAt(e.getX());
+                    if (e.isShiftDown()) {
+                        // Extend from the selected date to the clicked day
+                        setRange(selectedDate.toEpochDay(), day);
+                        commitRange();
+                    } else {
+                        // Start a drag, the range is only reported once it is released
+                        dragAnchorDay = day;
+                        setRange(day, day);
+                    }
+                }
+                
+                @Override
+                public void mouseDragged(MouseEvent e) {
+                    if (dragAnchorDay != NO_RANGE) {
+                        setHoveredCell(rowAt(e.getY()), colAt(e.getX()));
+                        setRange(dragAnchorDay, gridStartDay + hoveredRow * 7 + hoveredCol);
+                    }
+                }
+                
+                @Override
+                public void mouseReleased(MouseEvent e) {
+                    if (dragAnchorDay == NO_RANGE) {
+                        return;
+                    }
+                    long anchor = dragAnchorDay;
+                    dragAnchorDay = NO_RANGE;
+                    
+                    if (rangeStartDay != NO_RANGE && rangeStartDay != rangeEndDay) {
+                        commitRange();
+                    } else {
+                        // A press and release on one day selects that day
+                        int cell = (int) (anchor - gridStartDay);
+                        selectCell(cell / 7, cell % 7);
+                    }
+                }
+            };
+            addMouseListener(mouseHandler);
+            addMouseMotionListener(mouseHandler);
+        }
+        
+        private int colAt(int x) {
+            int span = getWidth() - 2 * INSET + GAP;
+            return Math.max(0, Math.min(6, (x - INSET) * 7 / Math.max(1, span)));
+        }
+        
+        private int rowAt(int y) {
+            int span = getHeight() - 2 * INSET + GAP;
+            return Math.max(0, Math.min(5, (y - INSET) * 6 / Math.max(1, span)));
+        }
+        
+        private int colX(int col) {
+            return INSET + col * (getWidth() - 2 * INSET + GAP) / 7;
+        }
+        
+        private int rowY(int row) {
+            return INSET + row * (getHeight() - 2 * INSET + GAP) / 6;
+        }
+        
+        /**
+         * Move the hover highlight, repainting only the cell it leaves and the
+         * cell it enters.
+         */
+        void setHoveredCell(int row, int col) {
+            if (row == hoveredRow && col == hoveredCol) {
+                return;
+            }
+            if (hoveredRow >= 0) {
+                repaintCell(hoveredRow, hoveredCol);
+            }
+            hoveredRow = row;
+            hoveredCol = col;
+            if (row >= 0) {
+                repaintCell(row, col);
+            }
+        }
+        
+        /**
+         * Repaint a single day cell.
+         */
+        void repaintCell(int row, int col) {
+            int x = colX(col);
+            int y = rowY(row);
+            repaint(x, y, colX(col + 1) - GAP - x, rowY(row + 1) - GAP - y);
+        }
+        
+        @Override
+        protected void paintComponent(Graphics g) {
+            long start = System.nanoTime();
+            Graphics2D g2d = (Graphics2D) g.create();
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            Rectangle clip = g2d.getClipBounds();
+            if (clip == null) {
+                clip = new Rectangle(0, 0, getWidth(), getHeight());
+            }
+            // Only paints of the whole month say what a month costs, not hover repaints
+            boolean wholeMonth = !renderingMonthImage && clip.width >= getWidth() && clip.height >= getHeight();
+            
+            // Grid lines show through the gaps between cells
+            g2d.setColor(BORDER_COLOR);
+            g2d.fillRect(clip.x, clip.y, clip.width, clip.height);
+            
+            g2d.setFont(DAY_FONT);
+            FontMetrics fm = g2d.getFontMetrics();
+            
+            // Paint only the cells inside the dirty region
+            int firstRow = rowAt(clip.y);
+            int lastRow = rowAt(clip.y + clip.height - 1);
+            int firstCol = colAt(clip.x);
+            int lastCol = colAt(clip.x + clip.width - 1);
+            for (int row = firstRow; row <= lastRow; row++) {
+                int y = rowY(row);
+                int height = rowY(row + 1) - GAP - y;
+                for (int col = firstCol; col <= lastCol; col++) {
+                    int x = colX(col);
+                    int width = colX(col + 1) - GAP - x;
+                    paintCell(g2d, fm, row, col, x, y, width, height);
+                }
             }
             
             g2d.dispose();
+            if (wholeMonth) {
+                monthPaintNanos = averagePaintTime(monthPaintNanos, System.nanoTime() - start);
+            }
+        }
+        
+        private void paintCell(Graphics2D g2d, FontMetrics fm, int row, int col,
+                               int x, int y, int width, int height) {
+            int cell = row * 7 + col;
+            
+            // Cell background
+            g2d.setColor(cellBackgrounds[cell]);
+            g2d.fillRect(x, y, width, height);
+            
+            // Selected range
+            if (isInRange(cell) && cellBackgrounds[cell] != SELECTED_BG) {
+                g2d.setColor(RANGE_BG);
+                g2d.fillRect(x, y, width, height);
+            }
+            
+            // Booking heatmap shade
+            if (cellHeat[cell] != null) {
+                g2d.setColor(cellHeat[cell]);
+                g2d.fillRect(x, y, width, height);
+            }
+            
+            // Hover highlight, unless this is the selected cell
+            if (row == hoveredRow && col == hoveredCol && !animating.get()
+                    && !(row == selectedRow && col == selectedCol)) {
+                g2d.setColor(HOVER_BG);
+                g2d.fillRect(x, y, width, height);
+            }
+            
+            // Day number
+            String text = DAY_NUMBERS[cellDays[cell]];
+            g2d.setColor(cellMonths[cell] == CELL_CURRENT_MONTH ? TEXT_COLOR : OTHER_MONTH_TEXT);
+            g2d.drawString(text,
+                x + (width - fm.stringWidth(text)) / 2,
+                y + (height - fm.getHeight()) / 2 + fm.getAscent());
+            
+            // Pending and approved counts in the bottom corners
+            if (cellPending[cell] != null || cellApproved[cell] != null) {
+                g2d.setFont(COUNT_FONT);
+                FontMetrics countMetrics = g2d.getFontMetrics();
+                int baseline = y + height - countMetrics.getDescent() - 1;
+                if (cellPending[cell] != null) {
+                    g2d.setColor(PENDING_TEXT);
+                    g2d.drawString(cellPending[cell], x + 3, baseline);
+                }
+                if (cellApproved[cell] != null) {
+                    g2d.setColor(APPROVED_TEXT);
+                    g2d.drawString(cellApproved[cell],
+                        x + width - countMetrics.stringWidth(cellApproved[cell]) - 3, baseline);
+                }
+                g2d.setFont(DAY_FONT);
+            }
         }
     }
 }
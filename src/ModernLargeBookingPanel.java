@@ -7,9 +7,14 @@ import java.awt.event.*;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.lang.reflect.Method;
-import java.lang.reflect.Constructor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.time.LocalDate;
+import java.time.YearMonth;
 
 /**
  * ModernLargeBookingPanel - A completely redesigned Large Bookings panel with a modern calendar
@@ -38,17 +43,27 @@ public class ModernLargeBookingPanel extends JPanel {
     private JSpinner attendeesSpinner;
     private JTextArea notesArea;
     private JTabbedPane tabbedPane;
+    private JLabel rangeLabel;
+    private JLabel quoteLabel;
+    private JLabel availabilityLabel;
     
-    // Data structures - using Object type to avoid direct dependency on private inner classes
-    private List<Object> bookings;
-    private List<Object> inquiries;
+    // Range quotes are worked out in the background, only the latest one is shown
+    private static final ExecutorService QUOTE_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "range-quote");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicInteger quoteGeneration = new AtomicInteger();
+    private CompletableFuture<Void> pendingQuote;
+    private Venue.RateInfo hallRates;
+    
+    // Data structures
+    private List<Booking> bookings;
+    private List<Enquiry> inquiries;
     
     // Reference to main frame for dialogs
     private JFrame mainFrame;
     
-    // Button animation state tracking
-    private Map<JButton, Point> buttonOriginalPositions = new HashMap<>();
-    
     /**
      * Constructor for ModernLargeBookingPanel.
      * 
@@ -58,7 +73,7 @@ public class ModernLargeBookingPanel extends JPanel {
      * @param colors Application color scheme
      * @param fonts Application fonts
      */
-    public ModernLargeBookingPanel(JFrame mainFrame, List<Object> bookings, List<Object> inquiries, 
+    public ModernLargeBookingPanel(JFrame mainFrame, List<Booking> bookings, List<Enquiry> inquiries, 
                                   Color[] colors, Font[] fonts) {
         this.mainFrame = mainFrame;
         this.bookings = bookings;
@@ -131,36 +146,33 @@ public class ModernLargeBookingPanel extends JPanel {
     private JLabel createAnimatedTitleLabel(String text, Font font, Color color) {
         JLabel label = new JLabel(text) {
             private float offset = 0;
-            private javax.swing.Timer animationTimer;
+            private long lastTick = 0;
             
             {
-                // Set up animation timer
-                animationTimer = new javax.swing.Timer(50, e -> {
-                    offset += 0.1f;
+                // Float on the shared animation clock, only while the title is on screen
+                AnimationLifecycle.runWhileShowing(this, now -> {
+                    // Keep the original speed of 0.1 radians every 50 ms
+                    long elapsed = now - lastTick;
+                    lastTick = now;
+                    offset += elapsed > 200 ? 0.1f : 0.1f * elapsed / 50f;
                     if (offset > 2 * Math.PI) {
                         offset -= 2 * Math.PI;
                     }
                     repaint();
+                    return true;
                 });
-                animationTimer.start();
             }
             
             @Override
             protected void paintComponent(Graphics g) {
                 Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
                 
                 // Calculate vertical offset for floating effect
                 float yOffset = (float) (Math.sin(offset) * 3);
                 
-                // Draw text shadow
-                g2d.setFont(getFont());
-                g2d.setColor(new Color(0, 0, 0, 100));
-                g2d.drawString(getText(), 2, getHeight() - 4 + (int) yOffset);
-                
-                // Draw text
-                g2d.setColor(getForeground());
-                g2d.drawString(getText(), 0, getHeight() - 6 + (int) yOffset);
+                // Draw text with its shadow, rendered once and moved by the offset
+                g2d.translate(0, (int) yOffset);
+                RenderCache.paintShadowedText(g2d, getWidth(), getHeight(), getText(), getFont(), getForeground());
                 
                 g2d.dispose();
             }
@@ -181,6 +193,7 @@ public class ModernLargeBookingPanel extends JPanel {
         
         // Create calendar
         calendar = new ModernCalendar();
+        calendar.setHeatmapVisible(true);
         
         // Create events panel (placeholder for future enhancement)
         JPanel eventsPanel = new JPanel();
@@ -204,10 +217,26 @@ public class ModernLargeBookingPanel extends JPanel {
         noEventsLabel.setForeground(TEXT_COLOR);
         noEventsLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         
+        // Create range quote labels, filled in when a range of days is selected
+        rangeLabel = createQuoteLabel("Drag or shift-click to select several days.");
+        quoteLabel = createQuoteLabel(" ");
+        availabilityLabel = createQuoteLabel(" ");
+        
+        // Quote the Main Hall's rates for the selected range
+        hallRates = VenueDataProvider.getSampleVenues().get(0).getRates();
+        calendar.addPropertyChangeListener("selectedRange", evt ->
+            requestRangeQuote((ModernCalendar.DateRange) evt.getNewValue()));
+        
         // Add components to events panel
         eventsPanel.add(eventsTitle);
         eventsPanel.add(Box.createRigidArea(new Dimension(0, 15)));
         eventsPanel.add(noEventsLabel);
+        eventsPanel.add(Box.createRigidArea(new Dimension(0, 25)));
+        eventsPanel.add(rangeLabel);
+        eventsPanel.add(Box.createRigidArea(new Dimension(0, 5)));
+        eventsPanel.add(quoteLabel);
+        eventsPanel.add(Box.createRigidArea(new Dimension(0, 5)));
+        eventsPanel.add(availabilityLabel);
         
         // Add components to panel
         panel.add(calendar, BorderLayout.CENTER);
@@ -216,6 +245,91 @@ public class ModernLargeBookingPanel extends JPanel {
         return panel;
     }
     
+    /**
+     * Create a label for the range quote in the events panel.
+     */
+    private JLabel createQuoteLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setFont(BODY_FONT);
+        label.setForeground(TEXT_COLOR);
+        label.setAlignmentX(Component.CENTER_ALIGNMENT);
+        return label;
+    }
+    
+    /**
+     * Quote and check availability for a range of days in the background.
+     * A quote still running for an earlier range is cancelled.
+     */
+    private void requestRangeQuote(ModernCalendar.DateRange range) {
+        if (pendingQuote != null) {
+            pendingQuote.cancel(false);
+        }
+        
+        int generation = quoteGeneration.incrementAndGet();
+        int attendees = (Integer) attendeesSpinner.getValue();
+        
+        rangeLabel.setText(range + " (" + range.getDayCount() + " days)");
+        quoteLabel.setText("Calculating quote...");
+        availabilityLabel.setText(" ");
+        
+        pendingQuote = CompletableFuture
+            .supplyAsync(() -> calculateRangeQuote(range, attendees, generation), QUOTE_EXECUTOR)
+            .thenAcceptAsync(quote -> {
+                if (generation == quoteGeneration.get()) {
+                    quoteLabel.setText(String.format("Quote: £%,.2f", quote.cost));
+                    availabilityLabel.setText(quote.availabilityText());
+                }
+            }, SwingUtilities::invokeLater);
+    }
+    
+    /**
+     * Work out the cost of a range and how many of its days are already booked.
+     * Runs off the Event Dispatch Thread, and stops early if a newer range is selected.
+     */
+    private RangeQuote calculateRangeQuote(ModernCalendar.DateRange range, int attendees, int generation) {
+        RangeQuote quote = new RangeQuote(hallRates.quote(range.getStart(), range.getEnd()));
+        BookingDensityIndex index = BookingDensityIndex.getInstance();
+        
+        for (LocalDate day = range.getStart(); !day.isAfter(range.getEnd()); day = day.plusDays(1)) {
+            if (generation != quoteGeneration.get()) {
+                throw new CancellationException();
+            }
+            
+            BookingDensityIndex.MonthDensity density = index.getMonth(YearMonth.from(day)).join();
+            int booked = density.getAttendees(day.getDayOfMonth());
+            if (booked + attendees > BookingDensityIndex.DEFAULT_CAPACITY) {
+                quote.unavailableDays++;
+            } else if (booked > 0) {
+                quote.sharedDays++;
+            }
+        }
+        
+        return quote;
+    }
+    
+    /**
+     * RangeQuote - The cost and availability of a range of days
+     */
+    private static class RangeQuote {
+        final double cost;
+        int sharedDays;
+        int unavailableDays;
+        
+        RangeQuote(double cost) {
+            this.cost = cost;
+        }
+        
+        String availabilityText() {
+            if (unavailableDays > 0) {
+                return unavailableDays + " day(s) lack capacity for this booking";
+            }
+            if (sharedDays > 0) {
+                return "Available, " + sharedDays + " day(s) already have bookings";
+            }
+            return "Available on every day";
+        }
+    }
+    
     /**
      * Create the booking panel.
      */
@@ -238,19 +352,8 @@ public class ModernLargeBookingPanel extends JPanel {
         JLabel formTitle = new JLabel("Book the Venue") {
             @Override
             protected void paintComponent(Graphics g) {
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                
-                // Draw text shadow
-                g2d.setFont(getFont());
-                g2d.setColor(new Color(0, 0, 0, 100));
-                g2d.drawString(getText(), 2, getHeight() - 4);
-                
-                // Draw text
-                g2d.setColor(getForeground());
-                g2d.drawString(getText(), 0, getHeight() - 6);
-                
-                g2d.dispose();
+                // Draw text with its shadow, rendered once per size
+                RenderCache.paintShadowedText((Graphics2D) g, getWidth(), getHeight(), getText(), getFont(), getForeground());
             }
         };
         formTitle.setFont(new Font("Dialog", Font.BOLD, 20));
@@ -340,7 +443,7 @@ public class ModernLargeBookingPanel extends JPanel {
             } else {
                 try {
                     // Generate a unique booking ID
-                    String bookingID = "BK" + System.currentTimeMillis();
+                    String bookingID = Booking.newBookingID();
                     
                     // Get the date from the calendar
                     Date bookingDate = calendar.getSelectedDate();
@@ -348,83 +451,55 @@ public class ModernLargeBookingPanel extends JPanel {
                     // Get the number of attendees
                     int attendees = (Integer) attendeesSpinner.getValue();
                     
-                    // Create a new booking using reflection to access the private Booking class
-                    // First, get the parent class that contains the Booking class
-                    Class<?> parentClass = Class.forName("com.lancaster.musicapp.LancasterMusicApp");
-                    
-                    // Get the Booking inner class
-                    Class<?> bookingClass = Class.forName("com.lancaster.musicapp.LancasterMusicApp$Booking");
-                    
-                    // Get the constructor for the Booking class
-                    Constructor<?> constructor = bookingClass.getDeclaredConstructor(
-                        parentClass, String.class, String.class, String.class, String.class, 
-                        Date.class, String.class, int.class);
-                    constructor.setAccessible(true);
-                    
-                    // Create a new instance of LancasterMusicApp to use as the outer class
-                    Object appInstance = parentClass.getDeclaredConstructor().newInstance();
-                    
-                    // Create a new booking instance
-                    Object bookingInstance = constructor.newInstance(
-                        appInstance,
+                    // Create the booking
+                    int cost = Pricing.largeBookingCost(attendees);
+                    Booking booking = new Booking(
                         bookingID,
                         nameField.getText(),
                         "Credit Card", // Default payment type
                         attendees + " attendees",
                         bookingDate,
                         notesArea.getText(),
-                        calculateCost(attendees)
+                        cost
                     );
                     
-                    // Call the setBooking method to store in database
-                    Method setBookingMethod = bookingClass.getDeclaredMethod("setBooking", 
-                        String.class, String.class, String.class, String.class, 
-                        Date.class, String.class, int.class);
-                    setBookingMethod.setAccessible(true);
-                    
-                    Boolean result = (Boolean) setBookingMethod.invoke(
-                        bookingInstance,
-                        bookingID,
-                        nameField.getText(),
-                        "Credit Card", // Default payment type
-                        attendees + " attendees",
-                        bookingDate,
-                        notesArea.getText(),
-                        calculateCost(attendees)
-                    );
-                    
-                    if (result) {
-                        // Add the booking to the list
-                        if (bookings != null) {
-                            bookings.add(bookingInstance);
+                    // Store it off the Event Dispatch Thread, then update the form
+                    submitButton.setEnabled(false);
+                    booking.save().thenAcceptAsync(result -> {
+                        submitButton.setEnabled(true);
+                        if (result) {
+                            // Add the booking to the list
+                            if (bookings != null) {
+                                bookings.add(booking);
+                            }
+                            
+                            // Also add to the BookingManager for staff management
+                            BookingManager.getInstance().addBooking(
+                                new BookingManager.BookingEntry(
+                                    booking.getBookingID(),
+                                    booking.getCustomerBooked(),
+                                    booking.getPaymentType(),
+                                    booking.getTicketsBooked(),
+                                    booking.getBookingDate(),
+                                    booking.getRowsHeld(),
+                                    booking.getTotalCost(),
+                                    "Pending"
+                                )
+                            );
+                            
+                            // Show success message
+                            showSuccessDialog("Your booking has been submitted successfully!", "Booking Confirmed");
+                            
+                            // Clear form fields
+                            nameField.setText("");
+                            emailField.setText("");
+                            phoneField.setText("");
+                            attendeesSpinner.setValue(50);
+                            notesArea.setText("");
+                        } else {
+                            showErrorDialog("There was an error submitting your booking. Please try again.", "Booking Error");
                         }
-                        
-                        // Also add to the BookingManager for staff management
-                        BookingManager.getInstance().addBooking(
-                            new BookingManager.BookingEntry(
-                                bookingID,
-                                nameField.getText(),
-                                "Credit Card",
-                                attendees + " attendees",
-                                bookingDate,
-                                notesArea.getText(),
-                                calculateCost(attendees),
-                                "Pending"
-                            )
-                        );
-                        
-                        // Show success message
-                        showSuccessDialog("Your booking has been submitted successfully!", "Booking Confirmed");
-                        
-                        // Clear form fields
-                        nameField.setText("");
-                        emailField.setText("");
-                        phoneField.setText("");
-                        attendeesSpinner.setValue(50);
-                        notesArea.setText("");
-                    } else {
-                        showErrorDialog("There was an error submitting your booking. Please try again.", "Booking Error");
-                    }
+                    }, SwingUtilities::invokeLater);
                 } catch (Exception ex) {
                     ex.printStackTrace();
                     showErrorDialog("An error occurred: " + ex.getMessage(), "System Error");
@@ -469,19 +544,8 @@ public class ModernLargeBookingPanel extends JPanel {
         JLabel formTitle = new JLabel("Company/Institution Inquiry") {
             @Override
             protected void paintComponent(Graphics g) {
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                
-                // Draw text shadow
-                g2d.setFont(getFont());
-                g2d.setColor(new Color(0, 0, 0, 100));
-                g2d.drawString(getText(), 2, getHeight() - 4);
-                
-                // Draw text
-                g2d.setColor(getForeground());
-                g2d.drawString(getText(), 0, getHeight() - 6);
-                
-                g2d.dispose();
+                // Draw text with its shadow, rendered once per size
+                RenderCache.paintShadowedText((Graphics2D) g, getWidth(), getHeight(), getText(), getFont(), getForeground());
             }
         };
         formTitle.setFont(new Font("Dialog", Font.BOLD, 20));
@@ -616,55 +680,7 @@ public class ModernLargeBookingPanel extends JPanel {
      * Create an animated button with hover and press effects.
      */
     private JButton createAnimatedButton(String text) {
-        JButton button = new JButton(text);
-        button.setFont(BUTTON_FONT);
-        button.setForeground(TEXT_COLOR);
-        button.setBackground(ACCENT_COLOR);
-        button.setBorderPainted(false);
-        button.setFocusPainted(false);
-        
-        // Store original position
-        button.addComponentListener(new ComponentAdapter() {
-            @Override
-            public void componentMoved(ComponentEvent e) {
-                if (!buttonOriginalPositions.containsKey(button)) {
-                    buttonOriginalPositions.put(button, button.getLocation());
-                }
-            }
-        });
-        
-        // Add hover and press effects
-        button.addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseEntered(MouseEvent e) {
-                button.setBackground(HIGHLIGHT_COLOR);
-                button.setCursor(new Cursor(Cursor.HAND_CURSOR));
-            }
-            
-            @Override
-            public void mouseExited(MouseEvent e) {
-                button.setBackground(ACCENT_COLOR);
-                button.setCursor(new Cursor(Cursor.DEFAULT_CURSOR));
-            }
-            
-            @Override
-            public void mousePressed(MouseEvent e) {
-                Point originalPos = buttonOriginalPositions.get(button);
-                if (originalPos != null) {
-                    button.setLocation(originalPos.x, originalPos.y + 2);
-                }
-            }
-            
-            @Override
-            public void mouseReleased(MouseEvent e) {
-                Point originalPos = buttonOriginalPositions.get(button);
-                if (originalPos != null) {
-                    button.setLocation(originalPos.x, originalPos.y);
-                }
-            }
-        });
-        
-        return button;
+        return new SkinnedButton(text, BUTTON_FONT, TEXT_COLOR, ACCENT_COLOR, HIGHLIGHT_COLOR);
     }
     
     /**
@@ -680,17 +696,4 @@ public class ModernLargeBookingPanel extends JPanel {
     private void showSuccessDialog(String message, String title) {
         JOptionPane.showMessageDialog(mainFrame, message, title, JOptionPane.INFORMATION_MESSAGE);
     }
-    
-    /**
-     * Calculate the cost based on the number of attendees.
-     */
-    private int calculateCost(int attendees) {
-        // Base cost is £500
-        int baseCost = 500;
-        
-        // Add £10 per attendee
-        int attendeeCost = attendees * 10;
-        
-        return baseCost + attendeeCost;
-    }
 }
@@ -0,0 +1,617 @@
+package com.lancaster.musicapp;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * ParticleBackground - The animated gradient background of the welcome screen
+ * Twinkling stars, pulsing circles and rotating shapes float over a gradient.
+ * Particle state is kept in primitive arrays, one per property, and every
+ * particle is drawn as a pre-rendered sprite image, so a frame allocates
+ * nothing and thousands of particles can be animated at 60 FPS.
+ */
+public class ParticleBackground extends JPanel {
+    // Default number of stars, circles and shapes scale with it
+    public static final int DEFAULT_STAR_COUNT = 100;
+
+    // Sprite variations
+    private static final int STAR_LEVELS = 32; // brightness steps a twinkling star passes through
+    private static final int MAX_STAR_SIZE = 3;
+    private static final int PALETTE_SIZE = 8;
+    private static final int MAX_CIRCLE_SIZE = 50;
+    private static final int MIN_SHAPE_SIZE = 15;
+    private static final int SHAPE_SIZE_STEP = 5;
+    private static final int SHAPE_SIZES = 6; // shapes come in a few sizes, so they share sprites
+    private static final int ROTATION_STEPS = 12; // per turn of the shape's symmetry
+    private static final float TWO_PI = (float) (2 * Math.PI); // phases and rotations are floats
+
+    // Shape types
+    private static final int SHAPE_CIRCLE = 0;
+    private static final int SHAPE_SQUARE = 1;
+    private static final int SHAPE_TRIANGLE = 2;
+    private static final int SHAPE_TYPES = 3;
+
+    // Side of the square tiles that the dirty area is tracked in
+    private static final int TILE_SIZE = 32;
+
+    // Each separate repaint costs about as much as painting this many more pixels, so
+    // rectangles closer than that are repainted together
+    private static final int MERGE_AREA = 16 * 1024;
+
+    // Repainting more of the panel than this in pieces costs more than one repaint of it all
+    private static final float MAX_DIRTY_FRACTION = 0.5f;
+
+    private final Color gradientStart;
+    private final Color gradientEnd;
+    private final Random random = new Random();
+
+    // Stars
+    private final int starCount;
+    private final int[] starX, starY, starSize, starLevel;
+    private final float[] starPhase, starSpeed, starBrightness;
+
+    // Circles
+    private final int circleCount;
+    private final float[] circleX, circleY, circleDX, circleDY, circlePhase, circlePulseSpeed;
+    private final int[] circleSize, circleColor;
+
+    // Shapes
+    private final int shapeCount;
+    private final float[] shapeX, shapeY, shapeDX, shapeDY, shapeRotation, shapeRotationSpeed;
+    private final int[] shapeSize, shapeType, shapeColor;
+
+    // Colours the circles and shapes are drawn in
+    private final Color[] circlePalette = new Color[PALETTE_SIZE];
+    private final Color[] shapePalette = new Color[PALETTE_SIZE];
+
+    // Sprites at the exact size they are drawn, rendered when first needed for the
+    // current screen scale, so drawing never scales an image
+    private double spriteScale;
+    private Image[][] starSprites;     // [size - 1][level]
+    private Image[][] circleSprites;   // [colour][diameter]
+    private Image[][][][] shapeSprites; // [type][colour][size][rotation step]
+
+    // The gradient never changes, so it is rendered once per panel size
+    private Image gradientImage;
+    private int gradientWidth;
+    private int gradientHeight;
+
+    // Tiles covered by particles that changed this tick, a row of columns at a time
+    private boolean[] dirtyTiles = new boolean[0];
+    private int tileColumns, tileRows;
+
+    // Rectangles the dirty tiles are merged into, reused every tick
+    private int[] rectX = new int[0], rectY = new int[0], rectWidth = new int[0], rectHeight = new int[0];
+
+    // Rectangle of the run starting at each column in the row above and in this row, or -1
+    private int[] runAbove = new int[0], runHere = new int[0];
+    private long lastTick = 0;
+    private boolean placed = false;
+
+    /**
+     * Create a background with the default number of particles
+     */
+    public ParticleBackground(Color gradientStart, Color gradientEnd) {
+        this(gradientStart, gradientEnd, DEFAULT_STAR_COUNT);
+    }
+
+    /**
+     * Create a background
+     * @param gradientStart Colour at the top left
+     * @param gradientEnd Colour at the bottom right
+     * @param starCount Number of stars, with 15 circles and 12 shapes for every 100 stars
+     */
+    public ParticleBackground(Color gradientStart, Color gradientEnd, int starCount) {
+        this.gradientStart = gradientStart;
+        this.gradientEnd = gradientEnd;
+        setOpaque(true);
+
+        this.starCount = Math.max(0, starCount);
+        starX = new int[this.starCount];
+        starY = new int[this.starCount];
+        starSize = new int[this.starCount];
+        starLevel = new int[this.starCount];
+        starPhase = new float[this.starCount];
+        starSpeed = new float[this.starCount];
+        starBrightness = new float[this.starCount];
+
+        circleCount = this.starCount * 15 / 100;
+        circleX = new float[circleCount];
+        circleY = new float[circleCount];
+        circleDX = new float[circleCount];
+        circleDY = new float[circleCount];
+        circlePhase = new float[circleCount];
+        circlePulseSpeed = new float[circleCount];
+        circleSize = new int[circleCount];
+        circleColor = new int[circleCount];
+
+        shapeCount = this.starCount * 12 / 100;
+        shapeX = new float[shapeCount];
+        shapeY = new float[shapeCount];
+        shapeDX = new float[shapeCount];
+        shapeDY = new float[shapeCount];
+        shapeRotation = new float[shapeCount];
+        shapeRotationSpeed = new float[shapeCount];
+        shapeSize = new int[shapeCount];
+        shapeType = new int[shapeCount];
+        shapeColor = new int[shapeCount];
+
+        // Pale translucent colours, as in the original Patreon-inspired design
+        for (int i = 0; i < PALETTE_SIZE; i++) {
+            circlePalette[i] = new Color(155 + random.nextInt(100), 155 + random.nextInt(100),
+                155 + random.nextInt(100), 20 + random.nextInt(80));
+            shapePalette[i] = new Color(155 + random.nextInt(100), 155 + random.nextInt(100),
+                155 + random.nextInt(100), 40 + random.nextInt(60));
+        }
+
+        initializeParticles(1024, 768);
+
+        // Animate on the shared animation clock, only while the background is on screen
+        AnimationLifecycle.runWhileShowing(this, this::tick);
+    }
+
+    /**
+     * Give every particle a random position inside the area, and its motion
+     */
+    private void initializeParticles(int width, int height) {
+        for (int i = 0; i < starCount; i++) {
+            starX[i] = random.nextInt(width);
+            starY[i] = random.nextInt(height);
+            starSize[i] = random.nextInt(MAX_STAR_SIZE) + 1;
+            starBrightness[i] = random.nextFloat() * 0.8f + 0.2f;
+            starPhase[i] = (float) (random.nextFloat() * 2 * Math.PI);
+            starSpeed[i] = random.nextFloat() * 0.1f + 0.05f;
+            starLevel[i] = starLevel(i);
+        }
+
+        for (int i = 0; i < circleCount; i++) {
+            circleX[i] = random.nextInt(width);
+            circleY[i] = random.nextInt(height);
+            circleSize[i] = random.nextInt(40) + 10;
+            circleColor[i] = random.nextInt(PALETTE_SIZE);
+            circleDX[i] = random.nextFloat() * 0.8f - 0.4f;
+            circleDY[i] = random.nextFloat() * 0.8f - 0.4f;
+            circlePhase[i] = (float) (random.nextFloat() * 2 * Math.PI);
+            circlePulseSpeed[i] = random.nextFloat() * 0.05f + 0.02f;
+        }
+
+        for (int i = 0; i < shapeCount; i++) {
+            shapeX[i] = random.nextInt(width);
+            shapeY[i] = random.nextInt(height);
+            shapeSize[i] = MIN_SHAPE_SIZE + SHAPE_SIZE_STEP * random.nextInt(SHAPE_SIZES);
+            shapeType[i] = i % SHAPE_TYPES;
+            shapeColor[i] = random.nextInt(PALETTE_SIZE);
+            shapeDX[i] = random.nextFloat() * 0.6f - 0.3f;
+            shapeDY[i] = random.nextFloat() * 0.6f - 0.3f;
+            shapeRotation[i] = 0;
+            shapeRotationSpeed[i] = random.nextFloat() * 0.05f - 0.025f;
+        }
+    }
+
+    /**
+     * Advance every particle and repaint the tiles it covered before and after moving.
+     * Particles were tuned for 50 ms steps, so they move by the fraction of a step that passed.
+     */
+    private boolean tick(long now) {
+        int width = getWidth();
+        int height = getHeight();
+        if (!placed && width > 0 && height > 0) {
+            // Spread the particles over the real screen the first time it is known
+            initializeParticles(width, height);
+            placed = true;
+            repaint();
+        }
+
+        long elapsed = now - lastTick;
+        lastTick = now;
+        float steps = elapsed > 200 ? 1f : elapsed / 50f;
+
+        resizeTiles(width, height);
+
+        // Stars twinkle in place, and only need repainting when their level changes
+        for (int i = 0; i < starCount; i++) {
+            starPhase[i] += starSpeed[i] * steps;
+            if (starPhase[i] > TWO_PI) {
+                starPhase[i] -= TWO_PI;
+            }
+            int level = starLevel(i);
+            if (level != starLevel[i]) {
+                starLevel[i] = level;
+                markDirty(starX[i], starY[i], starSize[i], starSize[i]);
+            }
+        }
+
+        // Circles drift, bounce off the edges and pulse
+        for (int i = 0; i < circleCount; i++) {
+            markCircle(i);
+            circleX[i] += circleDX[i] * steps;
+            circleY[i] += circleDY[i] * steps;
+            if (circleX[i] < 0) {
+                circleX[i] = 0;
+                circleDX[i] = -circleDX[i];
+            } else if (circleX[i] > width) {
+                circleX[i] = width;
+                circleDX[i] = -circleDX[i];
+            }
+            if (circleY[i] < 0) {
+                circleY[i] = 0;
+                circleDY[i] = -circleDY[i];
+            } else if (circleY[i] > height) {
+                circleY[i] = height;
+                circleDY[i] = -circleDY[i];
+            }
+            circlePhase[i] += circlePulseSpeed[i] * steps;
+            if (circlePhase[i] > TWO_PI) {
+                circlePhase[i] -= TWO_PI;
+            }
+            markCircle(i);
+        }
+
+        // Shapes drift, wrap around the edges and rotate
+        for (int i = 0; i < shapeCount; i++) {
+            int size = shapeSize[i];
+            markShape(i);
+            shapeX[i] += shapeDX[i] * steps;
+            shapeY[i] += shapeDY[i] * steps;
+            if (shapeX[i] < -size) shapeX[i] = width + size;
+            if (shapeX[i] > width + size) shapeX[i] = -size;
+            if (shapeY[i] < -size) shapeY[i] = height + size;
+            if (shapeY[i] > height + size) shapeY[i] = -size;
+            shapeRotation[i] += shapeRotationSpeed[i] * steps;
+            if (shapeRotation[i] > TWO_PI) {
+                shapeRotation[i] -= TWO_PI;
+            } else if (shapeRotation[i] < 0) {
+                shapeRotation[i] += TWO_PI;
+            }
+            markShape(i);
+        }
+
+        repaintDirtyTiles(width, height);
+        return true;
+    }
+
+    /**
+     * Size the dirty tiles for the panel, and clear them
+     */
+    private void resizeTiles(int width, int height) {
+        int columns = (width + TILE_SIZE - 1) / TILE_SIZE;
+        int rows = (height + TILE_SIZE - 1) / TILE_SIZE;
+        if (columns != tileColumns || rows != tileRows) {
+            tileColumns = columns;
+            tileRows = rows;
+            int tiles = columns * rows;
+            dirtyTiles = new boolean[tiles];
+            rectX = new int[tiles];
+            rectY = new int[tiles];
+            rectWidth = new int[tiles];
+            rectHeight = new int[tiles];
+            runAbove = new int[columns];
+            runHere = new int[columns];
+        }
+    }
+
+    /**
+     * Repaint the dirty tiles and clear them. Runs of dirty tiles in a row become one
+     * rectangle, which grows downwards while the row below has the same run. The
+     * RepaintManager would merge separate repaint() calls into one rectangle covering
+     * them all, usually most of the panel, so each rectangle is painted straight away.
+     */
+    private void repaintDirtyTiles(int width, int height) {
+        int rects = 0;
+        int dirtyArea = 0;
+        Arrays.fill(runAbove, -1);
+        for (int row = 0; row < tileRows; row++) {
+            int y = row * TILE_SIZE;
+            int runHeight = Math.min(height, y + TILE_SIZE) - y;
+            Arrays.fill(runHere, -1);
+            int column = 0;
+            while (column < tileColumns) {
+                if (!dirtyTiles[row * tileColumns + column]) {
+                    column++;
+                    continue;
+                }
+                int first = column;
+                while (column < tileColumns && dirtyTiles[row * tileColumns + column]) {
+                    dirtyTiles[row * tileColumns + column] = false;
+                    column++;
+                }
+                int x = first * TILE_SIZE;
+                int runWidth = Math.min(width, column * TILE_SIZE) - x;
+                dirtyArea += runWidth * runHeight;
+
+                int rect = runAbove[first];
+                if (rect >= 0 && rectWidth[rect] == runWidth) {
+                    rectHeight[rect] += runHeight;
+                } else {
+                    rect = rects++;
+                    rectX[rect] = x;
+                    rectY[rect] = y;
+                    rectWidth[rect] = runWidth;
+                    rectHeight[rect] = runHeight;
+                }
+                runHere[first] = rect;
+            }
+            int[] swap = runAbove;
+            runAbove = runHere;
+            runHere = swap;
+        }
+
+        if (dirtyArea > MAX_DIRTY_FRACTION * width * height) {
+            paintImmediately(0, 0, width, height);
+            return;
+        }
+        rects = mergeNearbyRects(rects);
+        for (int i = 0; i < rects; i++) {
+            paintImmediately(rectX[i], rectY[i], rectWidth[i], rectHeight[i]);
+        }
+    }
+
+    /**
+     * Merge rectangles whose union covers little more than they do apart, until no
+     * two are worth merging
+     * @param rects The number of rectangles
+     * @return The number of rectangles left, at the start of the arrays
+     */
+    private int mergeNearbyRects(int rects) {
+        boolean merged = true;
+        while (merged) {
+            merged = false;
+            for (int i = 0; i < rects; i++) {
+                for (int j = i + 1; j < rects; j++) {
+                    int left = Math.min(rectX[i], rectX[j]);
+                    int top = Math.min(rectY[i], rectY[j]);
+                    int right = Math.max(rectX[i] + rectWidth[i], rectX[j] + rectWidth[j]);
+                    int bottom = Math.max(rectY[i] + rectHeight[i], rectY[j] + rectHeight[j]);
+                    int added = (right - left) * (bottom - top)
+                        - rectWidth[i] * rectHeight[i] - rectWidth[j] * rectHeight[j];
+                    if (added < MERGE_AREA) {
+                        rectX[i] = left;
+                        rectY[i] = top;
+                        rectWidth[i] = right - left;
+                        rectHeight[i] = bottom - top;
+                        // Move the last rectangle into j's place, and look at it next
+                        rects--;
+                        rectX[j] = rectX[rects];
+                        rectY[j] = rectY[rects];
+                        rectWidth[j] = rectWidth[rects];
+                        rectHeight[j] = rectHeight[rects];
+                        j--;
+                        merged = true;
+                    }
+                }
+            }
+        }
+        return rects;
+    }
+
+    /**
+     * Get a star's brightness level. The twinkle dips below zero for part of its
+     * cycle, where the star is hidden.
+     */
+    private int starLevel(int i) {
+        float alpha = (float) (0.3f + 0.7f * Math.sin(starPhase[i])) * starBrightness[i];
+        return Math.round(Math.max(0f, Math.min(1f, alpha)) * STAR_LEVELS);
+    }
+
+    private int circleDiameter(int i) {
+        return (int) (circleSize[i] * (0.8f + 0.2f * (float) Math.sin(circlePhase[i])));
+    }
+
+    private void markCircle(int i) {
+        int diameter = circleDiameter(i);
+        markDirty((int) circleX[i] - diameter / 2, (int) circleY[i] - diameter / 2, diameter, diameter);
+    }
+
+    // Half the width of a box that holds the shape at any rotation
+    private int shapeReach(int i) {
+        return shapeSize[i] * 3 / 4 + 1;
+    }
+
+    private void markShape(int i) {
+        int reach = shapeReach(i);
+        markDirty((int) shapeX[i] - reach, (int) shapeY[i] - reach, 2 * reach, 2 * reach);
+    }
+
+    /**
+     * Mark the tiles under a rectangle dirty, with a pixel to spare for antialiasing
+     */
+    private void markDirty(int x, int y, int width, int height) {
+        int firstColumn = Math.max(0, Math.floorDiv(x - 1, TILE_SIZE));
+        int lastColumn = Math.min(tileColumns - 1, Math.floorDiv(x + width + 1, TILE_SIZE));
+        int firstRow = Math.max(0, Math.floorDiv(y - 1, TILE_SIZE));
+        int lastRow = Math.min(tileRows - 1, Math.floorDiv(y + height + 1, TILE_SIZE));
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                dirtyTiles[row * tileColumns + column] = true;
+            }
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (getWidth() <= 0 || getHeight() <= 0) {
+            return;
+        }
+        Graphics2D g2d = (Graphics2D) g.create();
+        Rectangle clip = g2d.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        int clipRight = clip.x + clip.width;
+        int clipBottom = clip.y + clip.height;
+
+        // Copy the cached gradient for the area being repainted
+        updateGradientImage();
+        g2d.drawImage(gradientImage, clip.x, clip.y, clipRight, clipBottom,
+            clip.x, clip.y, clipRight, clipBottom, null);
+
+        // Sprites are drawn in batches, one kind at a time, skipping those outside the clip
+        updateSprites(g2d.getDeviceConfiguration());
+
+        // Draw floating circles (behind stars)
+        for (int i = 0; i < circleCount; i++) {
+            int diameter = circleDiameter(i);
+            int x = (int) circleX[i] - diameter / 2;
+            int y = (int) circleY[i] - diameter / 2;
+            if (x < clipRight && y < clipBottom && x + diameter > clip.x && y + diameter > clip.y) {
+                drawSprite(g2d, circleSprite(circleColor[i], diameter), x, y, diameter);
+            }
+        }
+
+        // Draw floating shapes
+        for (int i = 0; i < shapeCount; i++) {
+            int reach = shapeReach(i);
+            int x = (int) shapeX[i] - reach;
+            int y = (int) shapeY[i] - reach;
+            if (x < clipRight && y < clipBottom && x + 2 * reach > clip.x && y + 2 * reach > clip.y) {
+                drawSprite(g2d, shapeSprite(i), x, y, 2 * reach);
+            }
+        }
+
+        // Draw stars (on top)
+        for (int i = 0; i < starCount; i++) {
+            int x = starX[i];
+            int y = starY[i];
+            int size = starSize[i];
+            if (starLevel[i] > 0 && x < clipRight && y < clipBottom && x + size > clip.x && y + size > clip.y) {
+                drawSprite(g2d, starSprites[size - 1][starLevel[i]], x, y, size);
+            }
+        }
+
+        g2d.dispose();
+    }
+
+    /**
+     * Render the gradient into an image when the panel size changes.
+     */
+    private void updateGradientImage() {
+        int width = getWidth();
+        int height = getHeight();
+        if (gradientImage != null && width == gradientWidth && height == gradientHeight) {
+            return;
+        }
+
+        if (gradientImage != null) {
+            gradientImage.flush();
+        }
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        gradientImage = gc != null
+            ? gc.createCompatibleImage(width, height, Transparency.OPAQUE)
+            : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        gradientWidth = width;
+        gradientHeight = height;
+
+        Graphics2D g2d = (Graphics2D) gradientImage.getGraphics();
+        g2d.setPaint(new GradientPaint(0, 0, gradientStart, width, height, gradientEnd));
+        g2d.fillRect(0, 0, width, height);
+        g2d.dispose();
+    }
+
+    /**
+     * Draw a sprite. Sprites already hold one pixel per device pixel, so they are
+     * only given a size when the screen is scaled.
+     */
+    private void drawSprite(Graphics2D g2d, Image sprite, int x, int y, int size) {
+        if (spriteScale == 1.0) {
+            g2d.drawImage(sprite, x, y, null);
+        } else {
+            g2d.drawImage(sprite, x, y, size, size, null);
+        }
+    }
+
+    /**
+     * Render the star sprites for the screen scale, and drop the circle and shape
+     * sprites, which are rendered as they are first needed.
+     */
+    private void updateSprites(GraphicsConfiguration gc) {
+        double scale = gc.getDefaultTransform().getScaleX();
+        if (starSprites != null && scale == spriteScale) {
+            return;
+        }
+        spriteScale = scale;
+
+        starSprites = new Image[MAX_STAR_SIZE][STAR_LEVELS + 1];
+        for (int size = 1; size <= MAX_STAR_SIZE; size++) {
+            for (int level = 1; level <= STAR_LEVELS; level++) {
+                Color color = new Color(255, 255, 255, level * 255 / STAR_LEVELS);
+                starSprites[size - 1][level] = renderSprite(gc, size, size, color, SHAPE_CIRCLE, 0);
+            }
+        }
+
+        circleSprites = new Image[PALETTE_SIZE][MAX_CIRCLE_SIZE + 1];
+        shapeSprites = new Image[SHAPE_TYPES][PALETTE_SIZE][SHAPE_SIZES][];
+    }
+
+    /**
+     * Get the sprite for a circle of one colour and diameter
+     */
+    private Image circleSprite(int color, int diameter) {
+        Image sprite = circleSprites[color][diameter];
+        if (sprite == null) {
+            sprite = renderSprite(getGraphicsConfiguration(), diameter, diameter, circlePalette[color], SHAPE_CIRCLE, 0);
+            circleSprites[color][diameter] = sprite;
+        }
+        return sprite;
+    }
+
+    /**
+     * Get the sprite for a shape, with its rotation rounded to the nearest step.
+     * Squares repeat every quarter turn and triangles every third of a turn, so
+     * only those angles need sprites.
+     */
+    private Image shapeSprite(int i) {
+        int type = shapeType[i];
+        int color = shapeColor[i];
+        int size = shapeSize[i];
+        double symmetry = type == SHAPE_SQUARE ? Math.PI / 2 : type == SHAPE_TRIANGLE ? 2 * Math.PI / 3 : 2 * Math.PI;
+        int steps = type == SHAPE_CIRCLE ? 1 : ROTATION_STEPS;
+        int step = (int) Math.round((shapeRotation[i] % symmetry) / symmetry * steps) % steps;
+
+        int sizeIndex = (size - MIN_SHAPE_SIZE) / SHAPE_SIZE_STEP;
+        Image[] sprites = shapeSprites[type][color][sizeIndex];
+        if (sprites == null) {
+            sprites = new Image[steps];
+            shapeSprites[type][color][sizeIndex] = sprites;
+        }
+        if (sprites[step] == null) {
+            sprites[step] = renderSprite(getGraphicsConfiguration(), 2 * shapeReach(i), size,
+                shapePalette[color], type, step * symmetry / steps);
+        }
+        return sprites[step];
+    }
+
+    /**
+     * Render one particle, centred in a translucent square image
+     * @param box Width of the image, big enough to hold the particle at its rotation
+     */
+    private Image renderSprite(GraphicsConfiguration gc, int box, int size, Color color, int type, double rotation) {
+        int pixels = Math.max(1, (int) Math.ceil(box * spriteScale));
+        BufferedImage image = gc != null
+            ? gc.createCompatibleImage(pixels, pixels, Transparency.TRANSLUCENT)
+            : new BufferedImage(pixels, pixels, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.scale(spriteScale, spriteScale);
+        g2d.setColor(color);
+        g2d.translate(box / 2.0, box / 2.0);
+        g2d.transform(AffineTransform.getRotateInstance(rotation));
+
+        if (type == SHAPE_SQUARE) {
+            g2d.fillRect(-size / 2, -size / 2, size, size);
+        } else if (type == SHAPE_TRIANGLE) {
+            int[] xPoints = {0, -size / 2, size / 2};
+            int[] yPoints = {-size / 2, size / 2, size / 2};
+            g2d.fillPolygon(xPoints, yPoints, 3);
+        } else {
+            g2d.fillOval(-size / 2, -size / 2, size, size);
+        }
+
+        g2d.dispose();
+        return image;
+    }
+}
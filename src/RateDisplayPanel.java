@@ -16,8 +16,8 @@ public class RateDisplayPanel extends JPanel {
     // UI Components
     private JLabel titleLabel;
     private JPanel rateCardsPanel;
-    private JPanel[] rateCards;
-    private Timer animationTimer;
+    private RateCard[] rateCards;
+    private AnimationClock.Animation fadeAnimation;
     
     // Reference to colors and fonts
     private final Color PRIMARY_COLOR;
@@ -32,7 +32,18 @@ public class RateDisplayPanel extends JPanel {
     
     // Animation state
     private int animationStep = 0;
-    private boolean isAnimating = false;
+    private long animationStartTime;
+    
+    // Precomputed fade ramps, indexed by animation step
+    private static final float[] CARD_ALPHA_RAMP = createCardAlphaRamp();
+    private final Color[] backgroundRamp;
+    private final Color restingBackground;
+    
+    // Shared card decorations
+    private final Color cardGradientStart;
+    private final Color cardGradientEnd;
+    private final Border cardBorder = new EmptyBorder(10, 10, 10, 10);
+    private final Border cardHoverBorder;
     
     /**
      * Constructor for RateDisplayPanel
@@ -49,8 +60,18 @@ public class RateDisplayPanel extends JPanel {
         this.LABEL_FONT = fonts[1];
         this.BODY_FONT = fonts[3];
         
+        // Precompute the colours used while fading
+        restingBackground = new Color(SECONDARY_COLOR.getRed(), SECONDARY_COLOR.getGreen(), SECONDARY_COLOR.getBlue(), 200);
+        backgroundRamp = createBackgroundRamp();
+        cardGradientStart = new Color(ACCENT_COLOR.getRed(), ACCENT_COLOR.getGreen(), ACCENT_COLOR.getBlue(), 100);
+        cardGradientEnd = new Color(ACCENT_COLOR.getRed(), ACCENT_COLOR.getGreen(), ACCENT_COLOR.getBlue(), 150);
+        cardHoverBorder = new CompoundBorder(
+            new LineBorder(HIGHLIGHT_COLOR, 2, true),
+            new EmptyBorder(8, 8, 8, 8)
+        );
+        
         setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
-        setBackground(new Color(SECONDARY_COLOR.getRed(), SECONDARY_COLOR.getGreen(), SECONDARY_COLOR.getBlue(), 200));
+        setBackground(restingBackground);
         setBorder(new CompoundBorder(
             new MatteBorder(0, 2, 0, 0, BORDER_COLOR),
             new EmptyBorder(20, 20, 20, 20)
@@ -69,6 +90,22 @@ public class RateDisplayPanel extends JPanel {
         rateCardsPanel.setOpaque(false);
         rateCardsPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
         
+        // Create the rate cards once, their text is updated in place
+        rateCards = new RateCard[] {
+            new RateCard("Hourly Rate"),
+            new RateCard("Daily Rate"),
+            new RateCard("Weekend Rate"),
+            new RateCard("Weekly Rate")
+        };
+        
+        // Add rate cards to panel with spacing
+        for (int i = 0; i < rateCards.length; i++) {
+            rateCardsPanel.add(rateCards[i]);
+            if (i < rateCards.length - 1) {
+                rateCardsPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+            }
+        }
+        
         // Add components to panel
         add(titleLabel);
         add(Box.createRigidArea(new Dimension(0, 30)));
@@ -83,183 +120,205 @@ public class RateDisplayPanel extends JPanel {
         
         add(bookingLabel);
         
-        // Initialize animation timer
-        animationTimer = new Timer(ANIMATION_DURATION / ANIMATION_STEPS, e -> {
-            animationStep++;
-            if (animationStep >= ANIMATION_STEPS) {
+        // Initialize the fade, stepped from the shared animation clock
+        fadeAnimation = now -> {
+            int step = (int) ((now - animationStartTime) * ANIMATION_STEPS / ANIMATION_DURATION);
+            if (step >= ANIMATION_STEPS) {
                 // Animation complete
-                animationTimer.stop();
-                isAnimating = false;
                 animationStep = 0;
-            } else {
-                // Update animation
+                finishAnimation();
+                return false;
+            }
+            
+            // Update animation, only when the clock has reached a new step
+            if (step != animationStep) {
+                animationStep = step;
                 updateAnimation();
             }
-        });
+            return true;
+        };
     }
     
     /**
      * Update the panel with new rate information
      */
     public void updateRates(Venue.RateInfo rates, String venueName) {
-        if (isAnimating) {
-            animationTimer.stop();
-        }
-        
-        // Start fade out animation
-        isAnimating = true;
+        // Start fade out animation, restarting it if it is already running
         animationStep = 0;
-        animationTimer.start();
+        animationStartTime = AnimationClock.now();
+        AnimationClock.getInstance().start(fadeAnimation);
         
         // Update title with venue name
         titleLabel.setText(venueName + " Rates");
         
-        // Clear existing rate cards
-        rateCardsPanel.removeAll();
-        
-        // Create new rate cards
-        rateCards = new JPanel[4];
-        rateCards[0] = createRateCard("Hourly Rate", "$" + rates.getHourlyRate() + "/hour");
-        rateCards[1] = createRateCard("Daily Rate", "$" + rates.getDailyRate() + "/day");
-        rateCards[2] = createRateCard("Weekend Rate", "$" + rates.getWeekendRate() + "/weekend");
-        rateCards[3] = createRateCard("Weekly Rate", "$" + rates.getWeeklyRate() + "/week");
-        
-        // Add rate cards to panel with spacing
-        for (int i = 0; i < rateCards.length; i++) {
-            rateCardsPanel.add(rateCards[i]);
-            if (i < rateCards.length - 1) {
-                rateCardsPanel.add(Box.createRigidArea(new Dimension(0, 15)));
-            }
-        }
+        // Update the existing rate cards
+        rateCards[0].setValue("$" + rates.getHourlyRate() + "/hour");
+        rateCards[1].setValue("$" + rates.getDailyRate() + "/day");
+        rateCards[2].setValue("$" + rates.getWeekendRate() + "/weekend");
+        rateCards[3].setValue("$" + rates.getWeeklyRate() + "/week");
         
-        rateCardsPanel.revalidate();
-        rateCardsPanel.repaint();
+        // Show the first frame of the fade straight away
+        updateAnimation();
     }
     
     /**
-     * Create a card to display a rate
+     * Build the card alpha ramp: cards stay hidden for the first half of the
+     * animation, then fade in over the second half.
      */
-    private JPanel createRateCard(String rateType, String rateValue) {
-        JPanel card = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                
-                // Create gradient background
-                GradientPaint gradient = new GradientPaint(
-                    0, 0, new Color(ACCENT_COLOR.getRed(), ACCENT_COLOR.getGreen(), ACCENT_COLOR.getBlue(), 100),
-                    getWidth(), getHeight(), new Color(ACCENT_COLOR.getRed(), ACCENT_COLOR.getGreen(), ACCENT_COLOR.getBlue(), 150)
-                );
-                g2d.setPaint(gradient);
-                
-                // Draw rounded rectangle
-                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 10, 10);
-                
-                // Draw border
-                g2d.setColor(BORDER_COLOR);
-                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 10, 10);
-                
-                g2d.dispose();
-                
-                super.paintComponent(g);
-            }
-        };
-        
-        card.setLayout(new BoxLayout(card, BoxLayout.Y_AXIS));
-        card.setOpaque(false);
-        card.setBorder(new EmptyBorder(10, 10, 10, 10));
-        card.setMaximumSize(new Dimension(210, 80));
-        card.setAlignmentX(Component.CENTER_ALIGNMENT);
-        
-        // Create rate type label
-        JLabel typeLabel = new JLabel(rateType);
-        typeLabel.setFont(LABEL_FONT);
-        typeLabel.setForeground(TEXT_COLOR);
-        typeLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        
-        // Create rate value label
-        JLabel valueLabel = new JLabel(rateValue);
-        valueLabel.setFont(new Font(HEADER_FONT.getName(), Font.BOLD, 18));
-        valueLabel.setForeground(HIGHLIGHT_COLOR);
-        valueLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        
-        // Add components to card
-        card.add(typeLabel);
-        card.add(Box.createRigidArea(new Dimension(0, 5)));
-        card.add(valueLabel);
-        
-        // Add hover effect
-        card.addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseEntered(MouseEvent e) {
-                card.setBorder(new CompoundBorder(
-                    new LineBorder(HIGHLIGHT_COLOR, 2, true),
-                    new EmptyBorder(8, 8, 8, 8)
-                ));
-                card.repaint();
-            }
-            
-            @Override
-            public void mouseExited(MouseEvent e) {
-                card.setBorder(new EmptyBorder(10, 10, 10, 10));
-                card.repaint();
-            }
-        });
-        
-        return card;
+    private static float[] createCardAlphaRamp() {
+        float[] ramp = new float[ANIMATION_STEPS + 1];
+        for (int step = 0; step <= ANIMATION_STEPS; step++) {
+            float progress = (float) step / ANIMATION_STEPS;
+            ramp[step] = Math.max(0f, Math.min(1f, (progress - 0.5f) * 2));
+        }
+        return ramp;
     }
     
     /**
-     * Update the animation for each step
+     * Build the background colour ramp: fade out over the first half of the
+     * animation and back in over the second half.
      */
-    private void updateAnimation() {
-        // Calculate progress (0.0 to 1.0)
-        float progress = (float) animationStep / ANIMATION_STEPS;
-        
-        // Apply animation effects
-        if (animationStep < ANIMATION_STEPS / 2) {
-            // Fade out
-            float alpha = 1.0f - (progress * 2);
-            // Ensure alpha is within valid range (0-255)
-            int alphaValue = Math.max(0, Math.min(255, (int)(200 * alpha)));
-            setBackground(new Color(
+    private Color[] createBackgroundRamp() {
+        Color[] ramp = new Color[ANIMATION_STEPS + 1];
+        for (int step = 0; step <= ANIMATION_STEPS; step++) {
+            float progress = (float) step / ANIMATION_STEPS;
+            float alpha = step < ANIMATION_STEPS / 2 ? 1.0f - (progress * 2) : (progress - 0.5f) * 2;
+            int alphaValue = Math.max(0, Math.min(255, (int) (200 * alpha)));
+            ramp[step] = new Color(
                 SECONDARY_COLOR.getRed(),
                 SECONDARY_COLOR.getGreen(),
                 SECONDARY_COLOR.getBlue(),
                 alphaValue
-            ));
-        } else {
-            // Fade in
-            float alpha = (progress - 0.5f) * 2;
-            // Ensure alpha is within valid range (0-255)
-            int alphaValue = Math.max(0, Math.min(255, (int)(200 * alpha)));
-            setBackground(new Color(
-                SECONDARY_COLOR.getRed(),
-                SECONDARY_COLOR.getGreen(),
-                SECONDARY_COLOR.getBlue(),
-                alphaValue
-            ));
-            
-            // Apply scale effect to rate cards
-            if (rateCards != null) {
-                for (int i = 0; i < rateCards.length; i++) {
-                    float cardProgress = Math.min(1.0f, (progress - 0.5f) * 2 + (i * 0.1f));
-                    rateCards[i].setVisible(cardProgress > 0);
-                    if (cardProgress > 0) {
-                        setAlpha(rateCards[i], cardProgress);
-                    }
-                }
-            }
+            );
+        }
+        return ramp;
+    }
+    
+    /**
+     * Update the animation for each step
+     */
+    private void updateAnimation() {
+        // Fade the panel background
+        setBackground(backgroundRamp[animationStep]);
+        
+        // Fade the rate cards in one after another
+        float cardAlpha = CARD_ALPHA_RAMP[animationStep];
+        for (int i = 0; i < rateCards.length; i++) {
+            rateCards[i].setAlpha(cardAlpha > 0 ? Math.min(1.0f, cardAlpha + (i * 0.1f)) : 0f);
         }
         
         repaint();
     }
     
     /**
-     * Set the alpha value for a component
+     * Finish the animation, leaving the panel and cards fully opaque
+     */
+    private void finishAnimation() {
+        setBackground(restingBackground);
+        for (RateCard card : rateCards) {
+            card.setAlpha(1.0f);
+        }
+        repaint();
+    }
+    
+    /**
+     * A card displaying one rate, faded by compositing the whole card
      */
-    private void setAlpha(JComponent component, float alpha) {
-        component.putClientProperty("alpha", alpha);
+    private class RateCard extends JPanel {
+        private final JLabel valueLabel;
+        private float alpha = 1.0f;
+        private GradientPaint gradient;
+        private int gradientWidth = -1;
+        private int gradientHeight = -1;
+        
+        RateCard(String rateType) {
+            setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+            setOpaque(false);
+            setBorder(cardBorder);
+            setMaximumSize(new Dimension(210, 80));
+            setAlignmentX(Component.CENTER_ALIGNMENT);
+            
+            // Create rate type label
+            JLabel typeLabel = new JLabel(rateType);
+            typeLabel.setFont(LABEL_FONT);
+            typeLabel.setForeground(TEXT_COLOR);
+            typeLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+            
+            // Create rate value label
+            valueLabel = new JLabel(" ");
+            valueLabel.setFont(new Font(HEADER_FONT.getName(), Font.BOLD, 18));
+            valueLabel.setForeground(HIGHLIGHT_COLOR);
+            valueLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+            
+            // Add components to card
+            add(typeLabel);
+            add(Box.createRigidArea(new Dimension(0, 5)));
+            add(valueLabel);
+            
+            // Add hover effect
+            addMouseListener(new MouseAdapter() {
+                @Override
+                public void mouseEntered(MouseEvent e) {
+                    setBorder(cardHoverBorder);
+                    repaint();
+                }
+                
+                @Override
+                public void mouseExited(MouseEvent e) {
+                    setBorder(cardBorder);
+                    repaint();
+                }
+            });
+        }
+        
+        void setValue(String value) {
+            valueLabel.setText(value);
+        }
+        
+        void setAlpha(float alpha) {
+            this.alpha = alpha;
+        }
+        
+        @Override
+        public void paint(Graphics g) {
+            if (alpha <= 0f) {
+                return;
+            }
+            if (alpha >= 1.0f) {
+                super.paint(g);
+                return;
+            }
+            
+            // Composite the card and its labels at the current alpha
+            Graphics2D g2d = (Graphics2D) g.create();
+            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+            super.paint(g2d);
+            g2d.dispose();
+        }
+        
+        @Override
+        protected void paintComponent(Graphics g) {
+            Graphics2D g2d = (Graphics2D) g.create();
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            
+            // Create gradient background, reused until the card is resized
+            if (gradientWidth != getWidth() || gradientHeight != getHeight()) {
+                gradientWidth = getWidth();
+                gradientHeight = getHeight();
+                gradient = new GradientPaint(0, 0, cardGradientStart, gradientWidth, gradientHeight, cardGradientEnd);
+            }
+            g2d.setPaint(gradient);
+            
+            // Draw rounded rectangle
+            g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 10, 10);
+            
+            // Draw border
+            g2d.setColor(BORDER_COLOR);
+            g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 10, 10);
+            
+            g2d.dispose();
+            
+            super.paintComponent(g);
+        }
     }
-}
+}
\ No newline at end of file
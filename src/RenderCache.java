@@ -0,0 +1,206 @@
+package com.lancaster.musicapp;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * RenderCache - Pre-rendered backgrounds and text layers shared by the whole application
+ * Gradients and shadowed text are rendered once into images, keyed by everything that
+ * decides how they look: size, colours, direction, text and the screen's HiDPI scale.
+ * Painting is then a single image copy. A component that is resized simply asks for a
+ * new size, and images for sizes no longer painted are dropped, least recently used
+ * first, once the cache holds more than MAX_PIXELS. Only use it on the Event Dispatch Thread.
+ */
+public final class RenderCache {
+    // Gradient directions
+    public static final int HORIZONTAL = 0;
+    public static final int VERTICAL = 1;
+    public static final int DIAGONAL = 2;
+
+    // Colour of the drop shadow behind shadowed text
+    public static final Color TEXT_SHADOW_COLOR = new Color(0, 0, 0, 100);
+
+    // Total size of the cached images, about four full HD screens
+    private static final long MAX_PIXELS = 8_000_000L;
+
+    private static final Map<Key, Image> images = new LinkedHashMap<>(16, 0.75f, true);
+    private static long cachedPixels = 0;
+
+    private RenderCache() {
+    }
+
+    /**
+     * Painter - Renders one cached image
+     */
+    public interface Painter {
+        /**
+         * Render the image. The graphics are already scaled for the screen.
+         * @param g The graphics to render into, with antialiasing on
+         * @param width The width in component coordinates
+         * @param height The height in component coordinates
+         */
+        void paint(Graphics2D g, int width, int height);
+    }
+
+    /**
+     * Paint a cached image at the top left of a component, rendering it first if needed
+     *
+     * @param g The graphics to paint into
+     * @param width The width of the image
+     * @param height The height of the image
+     * @param opaque true if the painter covers every pixel with an opaque colour
+     * @param painter Renders the image when it is not cached
+     * @param key Values that, together with the size and screen scale, decide how the image looks
+     */
+    public static void paint(Graphics2D g, int width, int height, boolean opaque, Painter painter, Object... key) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        GraphicsConfiguration gc = g.getDeviceConfiguration();
+        double scale = gc.getDefaultTransform().getScaleX();
+        Key cacheKey = new Key(width, height, scale, key);
+
+        Image image = images.get(cacheKey);
+        if (image == null) {
+            image = render(gc, width, height, scale, opaque, painter);
+            images.put(cacheKey, image);
+            cachedPixels += cacheKey.pixels();
+            evict();
+        }
+
+        if (scale == 1.0) {
+            g.drawImage(image, 0, 0, null);
+        } else {
+            g.drawImage(image, 0, 0, width, height, null);
+        }
+    }
+
+    /**
+     * Paint a gradient filling a rectangle
+     *
+     * @param g The graphics to paint into
+     * @param width The width of the rectangle
+     * @param height The height of the rectangle
+     * @param startColor The colour at the top left
+     * @param endColor The colour at the end of the gradient
+     * @param direction HORIZONTAL, VERTICAL or DIAGONAL
+     */
+    public static void paintGradient(Graphics2D g, int width, int height, Color startColor, Color endColor, int direction) {
+        boolean opaque = startColor.getAlpha() == 255 && endColor.getAlpha() == 255;
+        paint(g, width, height, opaque, (ig, w, h) -> {
+            ig.setPaint(createGradient(w, h, startColor, endColor, direction));
+            ig.fillRect(0, 0, w, h);
+        }, "gradient", startColor, endColor, direction);
+    }
+
+    /**
+     * Paint text with a drop shadow, with the text's baseline six pixels above the bottom
+     *
+     * @param g The graphics to paint into
+     * @param width The width of the component
+     * @param height The height of the component
+     * @param text The text to paint
+     * @param font The font of the text
+     * @param color The colour of the text
+     */
+    public static void paintShadowedText(Graphics2D g, int width, int height, String text, Font font, Color color) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        paint(g, width, height, false, (ig, w, h) -> {
+            ig.setFont(font);
+            ig.setColor(TEXT_SHADOW_COLOR);
+            ig.drawString(text, 2, h - 4);
+            ig.setColor(color);
+            ig.drawString(text, 0, h - 6);
+        }, "shadowedText", text, font, color);
+    }
+
+    /**
+     * Create the paint for a gradient across a rectangle
+     */
+    public static GradientPaint createGradient(int width, int height, Color startColor, Color endColor, int direction) {
+        switch (direction) {
+            case HORIZONTAL:
+                return new GradientPaint(0, 0, startColor, width, 0, endColor);
+            case VERTICAL:
+                return new GradientPaint(0, 0, startColor, 0, height, endColor);
+            case DIAGONAL:
+            default:
+                return new GradientPaint(0, 0, startColor, width, height, endColor);
+        }
+    }
+
+    /**
+     * Render an image at the screen's scale
+     */
+    private static Image render(GraphicsConfiguration gc, int width, int height, double scale,
+                                boolean opaque, Painter painter) {
+        int pixelWidth = (int) Math.ceil(width * scale);
+        int pixelHeight = (int) Math.ceil(height * scale);
+        BufferedImage image = gc.createCompatibleImage(pixelWidth, pixelHeight,
+            opaque ? Transparency.OPAQUE : Transparency.TRANSLUCENT);
+
+        Graphics2D g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.scale(scale, scale);
+        painter.paint(g2d, width, height);
+        g2d.dispose();
+        return image;
+    }
+
+    /**
+     * Drop the least recently painted images until the cache is within its budget.
+     * The image just added is always kept.
+     */
+    private static void evict() {
+        Iterator<Map.Entry<Key, Image>> iterator = images.entrySet().iterator();
+        while (cachedPixels > MAX_PIXELS && images.size() > 1) {
+            Map.Entry<Key, Image> eldest = iterator.next();
+            cachedPixels -= eldest.getKey().pixels();
+            eldest.getValue().flush();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Key - Identifies one cached image
+     */
+    private static final class Key {
+        private final int width;
+        private final int height;
+        private final double scale;
+        private final Object[] values;
+        private final int hash;
+
+        Key(int width, int height, double scale, Object[] values) {
+            this.width = width;
+            this.height = height;
+            this.scale = scale;
+            this.values = values;
+            this.hash = 31 * (31 * (31 * width + height) + Double.hashCode(scale)) + Arrays.hashCode(values);
+        }
+
+        long pixels() {
+            return (long) Math.ceil(width * scale) * (long) Math.ceil(height * scale);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return width == key.width && height == key.height && scale == key.scale
+                && Arrays.equals(values, key.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
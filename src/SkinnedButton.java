@@ -0,0 +1,95 @@
+package com.lancaster.musicapp;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * SkinnedButton - The flat coloured button used throughout the application
+ * The normal, hover and pressed faces are rendered once into images through
+ * RenderCache and shared by every button with the same look and size. Hover and
+ * press only switch which image is painted, and a pressed button is drawn a few
+ * pixels lower instead of being moved, so neither triggers a layout.
+ */
+public class SkinnedButton extends JButton {
+    // Shared by every button, so hovering never creates a cursor
+    private static final Cursor HAND_CURSOR = Cursor.getPredefinedCursor(Cursor.HAND_CURSOR);
+
+    // How far the face moves down while the button is pressed
+    private static final int PRESS_OFFSET = 2;
+
+    // Faces of disabled buttons are faded
+    private static final AlphaComposite DISABLED_COMPOSITE = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f);
+
+    private final Color normalColor;
+    private final Color hoverColor;
+    private final Color pressedColor;
+
+    /**
+     * Create a button
+     * @param text The button text
+     * @param font The font of the text
+     * @param textColor The colour of the text
+     * @param normalColor The background colour
+     * @param hoverColor The background colour while the mouse is over the button
+     */
+    public SkinnedButton(String text, Font font, Color textColor, Color normalColor, Color hoverColor) {
+        super(text);
+        this.normalColor = normalColor;
+        this.hoverColor = hoverColor;
+        this.pressedColor = shade(hoverColor, -20);
+
+        setFont(font);
+        setForeground(textColor);
+        setBackground(normalColor);
+        setBorderPainted(false);
+        setFocusPainted(false);
+        setContentAreaFilled(false);
+        setOpaque(false);
+        setRolloverEnabled(true);
+        setCursor(HAND_CURSOR);
+    }
+
+    /**
+     * Get a colour with each component moved by an amount, kept within 0 to 255
+     * @param color The colour to shade
+     * @param amount The amount to add, negative to darken
+     * @return The shaded colour
+     */
+    public static Color shade(Color color, int amount) {
+        return new Color(
+            Math.max(0, Math.min(color.getRed() + amount, 255)),
+            Math.max(0, Math.min(color.getGreen() + amount, 255)),
+            Math.max(0, Math.min(color.getBlue() + amount, 255))
+        );
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        ButtonModel model = getModel();
+        boolean pressed = model.isArmed() && model.isPressed();
+        Color faceColor = pressed ? pressedColor : model.isRollover() ? hoverColor : normalColor;
+
+        Graphics2D g2d = (Graphics2D) g.create();
+        if (pressed) {
+            g2d.translate(0, PRESS_OFFSET);
+        }
+        if (!isEnabled()) {
+            g2d.setComposite(DISABLED_COMPOSITE);
+        }
+
+        // Draw the face for the current state, rendered once per look and size
+        RenderCache.paint(g2d, getWidth(), getHeight(), faceColor.getAlpha() == 255, (ig, width, height) -> {
+            ig.setColor(faceColor);
+            ig.fillRect(0, 0, width, height);
+
+            ig.setFont(getFont());
+            ig.setColor(getForeground());
+            FontMetrics fm = ig.getFontMetrics();
+            int textX = (width - fm.stringWidth(getText())) / 2;
+            int textY = (height - fm.getHeight()) / 2 + fm.getAscent();
+            ig.drawString(getText(), textX, textY);
+        }, "skinnedButton", getText(), getFont(), getForeground(), faceColor);
+
+        g2d.dispose();
+    }
+}
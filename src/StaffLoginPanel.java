@@ -169,11 +169,21 @@ public class StaffLoginPanel extends JPanel {
         
         // Check credentials
         if ("admin".equals(username) && "123".equals(password)) {
-            // Load bookings from database
-            BookingManager.getInstance().loadBookingsFromDatabase();
-            
-            // Show booking management panel
-            cardLayout.show(contentPanel, "bookingManagement");
+            // Load bookings from database, then show booking management panel. Login is
+            // disabled meanwhile, so repeated clicks do not start several reloads.
+            loginButton.setEnabled(false);
+            BookingManager.getInstance().loadBookingsFromDatabase().whenCompleteAsync((loaded, error) -> {
+                loginButton.setEnabled(true);
+                if (error == null) {
+                    cardLayout.show(contentPanel, "bookingManagement");
+                } else {
+                    error.printStackTrace();
+                    JOptionPane.showMessageDialog(mainFrame,
+                        "Could not load bookings from the database. Please try again.",
+                        "Login Failed",
+                        JOptionPane.ERROR_MESSAGE);
+                }
+            }, SwingUtilities::invokeLater);
             
             // Clear fields
             usernameField.setText("");
@@ -191,39 +201,8 @@ public class StaffLoginPanel extends JPanel {
      * Create an animated button with hover and click effects
      */
     private JButton createAnimatedButton(String text) {
-        JButton button = new JButton(text);
-        button.setFont(BUTTON_FONT);
-        button.setForeground(TEXT_COLOR);
-        button.setBackground(ACCENT_COLOR);
-        button.setBorderPainted(false);
-        button.setFocusPainted(false);
+        JButton button = new SkinnedButton(text, BUTTON_FONT, TEXT_COLOR, ACCENT_COLOR, HIGHLIGHT_COLOR);
         button.setPreferredSize(new Dimension(120, 40));
-        
-        // Add hover effect
-        button.addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseEntered(MouseEvent e) {
-                button.setBackground(HIGHLIGHT_COLOR);
-                button.setCursor(new Cursor(Cursor.HAND_CURSOR));
-            }
-            
-            @Override
-            public void mouseExited(MouseEvent e) {
-                button.setBackground(ACCENT_COLOR);
-                button.setCursor(new Cursor(Cursor.DEFAULT_CURSOR));
-            }
-            
-            @Override
-            public void mousePressed(MouseEvent e) {
-                button.setLocation(button.getX(), button.getY() + 2);
-            }
-            
-            @Override
-            public void mouseReleased(MouseEvent e) {
-                button.setLocation(button.getX(), button.getY() - 2);
-            }
-        });
-        
         return button;
     }
 }
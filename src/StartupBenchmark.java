@@ -0,0 +1,173 @@
+package com.lancaster.musicapp;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.List;
+
+/**
+ * StartupBenchmark - Measures how long the application takes to show its first frame
+ * Runs headless: the application is built without a window and the welcome screen is
+ * painted into an image, with every phase timed by StartupTrace. Cold runs each start
+ * a fresh JVM, warm runs repeat the startup in one JVM after a discarded first run.
+ * Prints the median, 90th and 99th percentile of every phase.
+ *
+ * Usage: java -cp classes com.lancaster.musicapp.StartupBenchmark [coldRuns] [warmRuns]
+ * Options for the cold JVMs, such as a class-data sharing archive, can be given with
+ * -Dlancaster.benchmark.jvmArgs="-XX:SharedArchiveFile=out/cds/lancaster.jsa".
+ */
+public class StartupBenchmark {
+    private static final int DEFAULT_COLD_RUNS = 20;
+    private static final int DEFAULT_WARM_RUNS = 50;
+
+    // Size the welcome screen is painted at, the size of the main frame
+    private static final int WIDTH = 1024;
+    private static final int HEIGHT = 768;
+
+    // Argument that makes the process time one startup and print it, used for cold runs
+    private static final String ONCE = "--once";
+    private static final String JVM_PHASE = "JVM start to main";
+    private static final String TOTAL_PHASE = "main to " + StartupTrace.FIRST_FRAME;
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        System.setProperty("lancaster.prebuildScreens", "false");
+
+        if (args.length > 0 && ONCE.equals(args[0])) {
+            long jvmMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+            Map<String, Long> phases = runOnce();
+            System.out.println(JVM_PHASE + "=" + jvmMillis * 1_000_000L);
+            for (Map.Entry<String, Long> phase : phases.entrySet()) {
+                System.out.println(phase.getKey() + "=" + phase.getValue());
+            }
+            return;
+        }
+
+        int coldRuns = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COLD_RUNS;
+        int warmRuns = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_WARM_RUNS;
+
+        // Cold startups, each in a new JVM
+        Map<String, List<Long>> cold = new LinkedHashMap<>();
+        for (int i = 0; i < coldRuns; i++) {
+            record(cold, runFreshJvm());
+        }
+        report("Cold startup, " + coldRuns + " runs in new JVMs", cold);
+
+        // Warm startups, repeated in this JVM
+        Map<String, List<Long>> warm = new LinkedHashMap<>();
+        runOnce();
+        for (int i = 0; i < warmRuns; i++) {
+            record(warm, runOnce());
+        }
+        report("Warm startup, " + warmRuns + " runs in one JVM", warm);
+        System.exit(0);
+    }
+
+    /**
+     * Build the application and paint the welcome screen once
+     * @return The duration of each phase in nanoseconds, with the total last
+     */
+    private static Map<String, Long> runOnce() throws Exception {
+        Map<String, Long> phases = new LinkedHashMap<>();
+        SwingUtilities.invokeAndWait(() -> {
+            StartupTrace.start();
+            LancasterMusicApp app = new LancasterMusicApp(false);
+
+            JPanel welcomePanel = app.getWelcomePanel();
+            welcomePanel.setSize(WIDTH, HEIGHT);
+            layout(welcomePanel);
+            StartupTrace.mark("layout");
+
+            BufferedImage frame = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g2d = frame.createGraphics();
+            welcomePanel.paint(g2d);
+            g2d.dispose();
+
+            phases.putAll(StartupTrace.getPhases());
+            phases.put(TOTAL_PHASE, StartupTrace.getTotal());
+        });
+        return phases;
+    }
+
+    /**
+     * Lay out a component tree. Without a window, validate() does nothing.
+     */
+    private static void layout(Component component) {
+        if (component instanceof Container) {
+            Container container = (Container) component;
+            container.doLayout();
+            for (Component child : container.getComponents()) {
+                layout(child);
+            }
+        }
+    }
+
+    /**
+     * Time one startup in a new JVM with the same class path
+     * @return The duration of each phase in nanoseconds
+     */
+    private static Map<String, Long> runFreshJvm() throws Exception {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        String jvmArgs = System.getProperty("lancaster.benchmark.jvmArgs", "").trim();
+        if (!jvmArgs.isEmpty()) {
+            command.addAll(Arrays.asList(jvmArgs.split("\\s+")));
+        }
+        command.addAll(Arrays.asList("-Djava.awt.headless=true", "-cp", System.getProperty("java.class.path"),
+            StartupBenchmark.class.getName(), ONCE));
+
+        Process process = new ProcessBuilder(command)
+            .redirectError(ProcessBuilder.Redirect.INHERIT)
+            .start();
+
+        Map<String, Long> phases = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.lastIndexOf('=');
+                if (separator > 0) {
+                    phases.put(line.substring(0, separator), Long.parseLong(line.substring(separator + 1)));
+                }
+            }
+        }
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Startup run failed with exit code " + process.exitValue());
+        }
+        return phases;
+    }
+
+    private static void record(Map<String, List<Long>> samples, Map<String, Long> run) {
+        for (Map.Entry<String, Long> phase : run.entrySet()) {
+            samples.computeIfAbsent(phase.getKey(), key -> new ArrayList<>()).add(phase.getValue());
+        }
+    }
+
+    /**
+     * Print the percentiles of every phase
+     */
+    private static void report(String title, Map<String, List<Long>> samples) {
+        System.out.println(title);
+        System.out.println(String.format("  %-24s %10s %10s %10s", "phase", "p50 ms", "p90 ms", "p99 ms"));
+        for (Map.Entry<String, List<Long>> phase : samples.entrySet()) {
+            List<Long> values = phase.getValue();
+            Collections.sort(values);
+            System.out.println(String.format("  %-24s %10.2f %10.2f %10.2f", phase.getKey(),
+                percentile(values, 50), percentile(values, 90), percentile(values, 99)));
+        }
+        System.out.println();
+    }
+
+    /**
+     * Get a percentile of sorted samples, by the nearest-rank method, in milliseconds
+     */
+    private static double percentile(List<Long> sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1)) / 1e6;
+    }
+}
@@ -0,0 +1,123 @@
+package com.lancaster.musicapp;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StartupTrace - Records how long each phase of application startup takes
+ * Startup code marks the end of each named phase with {@link #mark(String)}, and the
+ * first painted frame ends the trace. Run with -Dlancaster.startupTrace=true to print
+ * the breakdown when the first frame has been painted. Marks are cheap enough to be
+ * recorded on every run.
+ */
+public final class StartupTrace {
+    // Print the breakdown when the first frame is painted
+    public static final boolean ENABLED = Boolean.getBoolean("lancaster.startupTrace");
+
+    // Name of the phase that ends the trace
+    public static final String FIRST_FRAME = "first frame";
+
+    private static final List<String> phases = new ArrayList<>();
+    private static final List<Long> times = new ArrayList<>();
+    private static long start = System.nanoTime();
+    private static long jvmStartMillis = -1;
+    private static boolean finished = false;
+
+    private StartupTrace() {
+    }
+
+    /**
+     * Start the trace. Called first thing in main(), and by benchmarks before each run.
+     */
+    public static synchronized void start() {
+        phases.clear();
+        times.clear();
+        finished = false;
+        start = System.nanoTime();
+        if (jvmStartMillis < 0) {
+            // Time the JVM spent before main(), only meaningful on the first start
+            jvmStartMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        }
+    }
+
+    /**
+     * Mark the end of a startup phase. Does nothing once the trace has finished.
+     * @param phase The name of the phase that just ended
+     */
+    public static synchronized void mark(String phase) {
+        if (finished) {
+            return;
+        }
+        phases.add(phase);
+        times.add(System.nanoTime());
+    }
+
+    /**
+     * Mark the first painted frame and finish the trace, printing it if tracing is enabled.
+     * Later calls do nothing, so this can be called from every paint.
+     */
+    public static void firstFrame() {
+        synchronized (StartupTrace.class) {
+            if (finished) {
+                return;
+            }
+            mark(FIRST_FRAME);
+            finished = true;
+        }
+        if (ENABLED) {
+            print(System.err);
+        }
+    }
+
+    /**
+     * Check whether the first frame has been painted
+     */
+    public static synchronized boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Get the duration of each phase, in order, in nanoseconds
+     * @return The phase names mapped to how long each took
+     */
+    public static synchronized Map<String, Long> getPhases() {
+        Map<String, Long> durations = new LinkedHashMap<>();
+        long previous = start;
+        for (int i = 0; i < phases.size(); i++) {
+            long time = times.get(i);
+            durations.merge(phases.get(i), time - previous, Long::sum);
+            previous = time;
+        }
+        return durations;
+    }
+
+    /**
+     * Get the time from the start of the trace to the last mark, in nanoseconds
+     */
+    public static synchronized long getTotal() {
+        return times.isEmpty() ? 0 : times.get(times.size() - 1) - start;
+    }
+
+    /**
+     * Print the breakdown of the trace
+     * @param out The stream to print to
+     */
+    public static void print(PrintStream out) {
+        Map<String, Long> durations = getPhases();
+        long total = getTotal();
+        StringBuilder report = new StringBuilder("Startup trace\n");
+        if (jvmStartMillis >= 0) {
+            report.append(String.format("  %-24s %9d ms%n", "JVM start to main", jvmStartMillis));
+        }
+        for (Map.Entry<String, Long> phase : durations.entrySet()) {
+            report.append(String.format("  %-24s %9.2f ms %5.1f%%%n", phase.getKey(), phase.getValue() / 1e6,
+                total > 0 ? 100.0 * phase.getValue() / total : 0.0));
+        }
+        report.append(String.format("  %-24s %9.2f ms%n", "main to " + FIRST_FRAME, total / 1e6));
+        out.print(report);
+    }
+}
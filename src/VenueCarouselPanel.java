@@ -4,6 +4,7 @@ import javax.swing.*;
 import javax.swing.border.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -14,7 +15,7 @@ import java.util.List;
 public class VenueCarouselPanel extends JPanel {
     // Constants
     private static final int ANIMATION_DURATION = 500; // milliseconds
-    private static final int ANIMATION_STEPS = 20;
+    private static final int CARD_WINDOW = 1; // venue cards kept either side of the current one
     
     // UI Components
     private JPanel carouselPanel;
@@ -25,7 +26,8 @@ public class VenueCarouselPanel extends JPanel {
     private JButton nextButton;
     private JLabel pageIndicator;
     private RateDisplayPanel ratePanel;
-    private Timer animationTimer;
+    private AnimationClock.Animation slideAnimation;
+    private SlideTransitionPanel transitionPanel;
     
     // Data
     private List<Venue> venues;
@@ -33,10 +35,14 @@ public class VenueCarouselPanel extends JPanel {
     private boolean isAnimating = false;
     
     // Animation state
-    private JPanel slidingPanel;
-    private int animationStep = 0;
+    private long animationStartTime;
     private boolean slideRight;
     
+    // Cached snapshots of the outgoing and incoming venue cards
+    private Image outgoingSnapshot;
+    private Image incomingSnapshot;
+    private double snapshotScale = 1.0;
+    
     // Reference to colors and fonts
     private final Color PRIMARY_COLOR;
     private final Color SECONDARY_COLOR;
@@ -94,21 +100,7 @@ public class VenueCarouselPanel extends JPanel {
         add(ratePanel, BorderLayout.EAST);
         
         // Initialize animation timer
-        animationTimer = new Timer(ANIMATION_DURATION / ANIMATION_STEPS, e -> {
-            animationStep++;
-            if (animationStep >= ANIMATION_STEPS) {
-                // Animation complete
-                animationStep = 0;
-                isAnimating = false;
-                animationTimer.stop();
-                
-                // Update UI
-                updateCarousel();
-            } else {
-                // Update animation
-                updateAnimation();
-            }
-        });
+        createSlideAnimation();
     }
     
     /**
@@ -197,21 +189,7 @@ public class VenueCarouselPanel extends JPanel {
         add(ratePanel, BorderLayout.EAST);
         
         // Initialize animation timer
-        animationTimer = new Timer(ANIMATION_DURATION / ANIMATION_STEPS, e -> {
-            animationStep++;
-            if (animationStep >= ANIMATION_STEPS) {
-                // Animation complete
-                animationStep = 0;
-                isAnimating = false;
-                animationTimer.stop();
-                
-                // Update UI
-                updateCarousel();
-            } else {
-                // Update animation
-                updateAnimation();
-            }
-        });
+        createSlideAnimation();
     }
     
     /**
@@ -221,19 +199,8 @@ public class VenueCarouselPanel extends JPanel {
         JLabel label = new JLabel(text) {
             @Override
             protected void paintComponent(Graphics g) {
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                // Draw text shadow
-                g2d.setFont(getFont());
-                g2d.setColor(new Color(0, 0, 0, 100));
-                g2d.drawString(getText(), 2, getHeight() - 4);
-
-                // Draw text
-                g2d.setColor(getForeground());
-                g2d.drawString(getText(), 0, getHeight() - 6);
-
-                g2d.dispose();
+                // Draw text with its shadow, rendered once per size
+                RenderCache.paintShadowedText((Graphics2D) g, getWidth(), getHeight(), getText(), getFont(), getForeground());
             }
         };
         label.setFont(font);
@@ -244,6 +211,7 @@ public class VenueCarouselPanel extends JPanel {
     
     /**
      * Create the carousel panel.
+     * Venue cards are built lazily as they are first shown, see {@link #showVenueCard(int)}.
      */
     private void createCarouselPanel() {
         carouselPanel = new JPanel();
@@ -252,97 +220,158 @@ public class VenueCarouselPanel extends JPanel {
         carouselPanel.setBackground(PRIMARY_COLOR);
         carouselPanel.setBorder(new EmptyBorder(10, 10, 10, 10));
         
-        // Create venue panels
+        // Venue panels are created on demand
         venuePanels = new JPanel[venues.size()];
         
-        for (int i = 0; i < venues.size(); i++) {
-            Venue venue = venues.get(i);
-            
-            // Create panel for this venue
-            JPanel venuePanel = new JPanel();
-            venuePanel.setLayout(new BoxLayout(venuePanel, BoxLayout.Y_AXIS));
-            venuePanel.setBackground(new Color(SECONDARY_COLOR.getRed(), SECONDARY_COLOR.getGreen(), SECONDARY_COLOR.getBlue(), 80));
-            venuePanel.setBorder(new CompoundBorder(
-                new LineBorder(BORDER_COLOR, 1),
-                new EmptyBorder(20, 20, 20, 20)
-            ));
-            
-            // Create venue name
-            JLabel nameLabel = new JLabel(venue.getName());
-            nameLabel.setFont(HEADER_FONT);
-            nameLabel.setForeground(TEXT_COLOR);
-            nameLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            
-            // Create venue description
-            JTextArea descriptionArea = new JTextArea(venue.getDescription());
-            descriptionArea.setFont(BODY_FONT);
-            descriptionArea.setForeground(TEXT_COLOR);
-            descriptionArea.setBackground(new Color(0, 0, 0, 0));
-            descriptionArea.setWrapStyleWord(true);
-            descriptionArea.setLineWrap(true);
-            descriptionArea.setEditable(false);
-            descriptionArea.setOpaque(false);
-            descriptionArea.setAlignmentX(Component.CENTER_ALIGNMENT);
-            descriptionArea.setMaximumSize(new Dimension(500, 100));
-            
-            // Create capacity info
-            JLabel capacityLabel = new JLabel("Capacity: " + venue.getCapacity() + " guests");
-            capacityLabel.setFont(LABEL_FONT);
-            capacityLabel.setForeground(TEXT_COLOR);
-            capacityLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            
-            // Create venue image placeholder
-            JPanel imagePanel = new JPanel() {
-                @Override
-                protected void paintComponent(Graphics g) {
-                    super.paintComponent(g);
-                    Graphics2D g2d = (Graphics2D) g.create();
-                    g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                    
-                    // Draw image placeholder
-                    g2d.setColor(new Color(ACCENT_COLOR.getRed(), ACCENT_COLOR.getGreen(), ACCENT_COLOR.getBlue(), 50));
-                    g2d.fillRect(0, 0, getWidth(), getHeight());
-                    
-                    // Draw border
-                    g2d.setColor(BORDER_COLOR);
-                    g2d.drawRect(0, 0, getWidth() - 1, getHeight() - 1);
-                    
-                    // Draw venue name
-                    g2d.setFont(new Font("Dialog", Font.BOLD, 18));
-                    g2d.setColor(TEXT_COLOR);
-                    FontMetrics fm = g2d.getFontMetrics();
-                    String text = venue.getName();
-                    int textWidth = fm.stringWidth(text);
-                    g2d.drawString(text, (getWidth() - textWidth) / 2, getHeight() / 2);
-                    
-                    g2d.dispose();
-                }
-                
-                @Override
-                public Dimension getPreferredSize() {
-                    return new Dimension(400, 200);
-                }
-            };
-            imagePanel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            
-            // Add components to venue panel
-            venuePanel.add(nameLabel);
-            venuePanel.add(Box.createRigidArea(new Dimension(0, 10)));
-            venuePanel.add(imagePanel);
-            venuePanel.add(Box.createRigidArea(new Dimension(0, 10)));
-            venuePanel.add(descriptionArea);
-            venuePanel.add(Box.createRigidArea(new Dimension(0, 10)));
-            venuePanel.add(capacityLabel);
-            
-            // Add venue panel to carousel
-            carouselPanel.add(venuePanel, "venue" + i);
-            venuePanels[i] = venuePanel;
-        }
+        // Add the card used to play slide transitions
+        transitionPanel = new SlideTransitionPanel();
+        carouselPanel.add(transitionPanel, "transition");
         
         // Show first venue
         if (venues.size() > 0) {
-            cardLayout.show(carouselPanel, "venue0");
+            showVenueCard(0);
+            prefetchNeighbour(true);
+        }
+    }
+    
+    /**
+     * Get the card for a venue, building it and adding it to the carousel on first use.
+     */
+    private JPanel getVenuePanel(int index) {
+        if (venuePanels[index] == null) {
+            venuePanels[index] = createVenuePanel(venues.get(index));
+            carouselPanel.add(venuePanels[index], "venue" + index);
         }
+        return venuePanels[index];
+    }
+    
+    /**
+     * Show the card for a venue and release cards outside the retained window.
+     */
+    private void showVenueCard(int index) {
+        getVenuePanel(index);
+        cardLayout.show(carouselPanel, "venue" + index);
+        releaseDistantCards(index);
+    }
+    
+    /**
+     * Build the next card in the direction of travel after the current event,
+     * so it is ready before the user asks for it.
+     */
+    private void prefetchNeighbour(boolean forward) {
+        if (venues.size() < 2) {
+            return;
+        }
+        int index = currentVenueIndex;
+        SwingUtilities.invokeLater(() -> {
+            // Skip if the user has moved on or a transition is running
+            if (index != currentVenueIndex || isAnimating) {
+                return;
+            }
+            int size = venues.size();
+            getVenuePanel(forward ? (index + 1) % size : (index - 1 + size) % size);
+        });
+    }
+    
+    /**
+     * Remove cards further than {@link #CARD_WINDOW} positions from the current venue.
+     */
+    private void releaseDistantCards(int index) {
+        int size = venues.size();
+        for (int i = 0; i < size; i++) {
+            if (venuePanels[i] == null) {
+                continue;
+            }
+            int distance = Math.abs(i - index);
+            distance = Math.min(distance, size - distance);
+            if (distance > CARD_WINDOW) {
+                carouselPanel.remove(venuePanels[i]);
+                venuePanels[i] = null;
+            }
+        }
+    }
+    
+    /**
+     * Create the card for a single venue.
+     */
+    private JPanel createVenuePanel(Venue venue) {
+        // Create panel for this venue
+        JPanel venuePanel = new JPanel();
+        venuePanel.setLayout(new BoxLayout(venuePanel, BoxLayout.Y_AXIS));
+        venuePanel.setBackground(new Color(SECONDARY_COLOR.getRed(), SECONDARY_COLOR.getGreen(), SECONDARY_COLOR.getBlue(), 80));
+        venuePanel.setBorder(new CompoundBorder(
+            new LineBorder(BORDER_COLOR, 1),
+            new EmptyBorder(20, 20, 20, 20)
+        ));
+        
+        // Create venue name
+        JLabel nameLabel = new JLabel(venue.getName());
+        nameLabel.setFont(HEADER_FONT);
+        nameLabel.setForeground(TEXT_COLOR);
+        nameLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        
+        // Create venue description
+        JTextArea descriptionArea = new JTextArea(venue.getDescription());
+        descriptionArea.setFont(BODY_FONT);
+        descriptionArea.setForeground(TEXT_COLOR);
+        descriptionArea.setBackground(new Color(0, 0, 0, 0));
+        descriptionArea.setWrapStyleWord(true);
+        descriptionArea.setLineWrap(true);
+        descriptionArea.setEditable(false);
+        descriptionArea.setOpaque(false);
+        descriptionArea.setAlignmentX(Component.CENTER_ALIGNMENT);
+        descriptionArea.setMaximumSize(new Dimension(500, 100));
+        
+        // Create capacity info
+        JLabel capacityLabel = new JLabel("Capacity: " + venue.getCapacity() + " guests");
+        capacityLabel.setFont(LABEL_FONT);
+        capacityLabel.setForeground(TEXT_COLOR);
+        capacityLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        
+        // Create venue image placeholder
+        JPanel imagePanel = new JPanel() {
+            @Override
+            protected void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                
+                // Draw image placeholder
+                g2d.setColor(new Color(ACCENT_COLOR.getRed(), ACCENT_COLOR.getGreen(), ACCENT_COLOR.getBlue(), 50));
+                g2d.fillRect(0, 0, getWidth(), getHeight());
+                
+                // Draw border
+                g2d.setColor(BORDER_COLOR);
+                g2d.drawRect(0, 0, getWidth() - 1, getHeight() - 1);
+                
+                // Draw venue name
+                g2d.setFont(new Font("Dialog", Font.BOLD, 18));
+                g2d.setColor(TEXT_COLOR);
+                FontMetrics fm = g2d.getFontMetrics();
+                String text = venue.getName();
+                int textWidth = fm.stringWidth(text);
+                g2d.drawString(text, (getWidth() - textWidth) / 2, getHeight() / 2);
+                
+                g2d.dispose();
+            }
+            
+            @Override
+            public Dimension getPreferredSize() {
+                return new Dimension(400, 200);
+            }
+        };
+        imagePanel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        
+        // Add components to venue panel
+        venuePanel.add(nameLabel);
+        venuePanel.add(Box.createRigidArea(new Dimension(0, 10)));
+        venuePanel.add(imagePanel);
+        venuePanel.add(Box.createRigidArea(new Dimension(0, 10)));
+        venuePanel.add(descriptionArea);
+        venuePanel.add(Box.createRigidArea(new Dimension(0, 10)));
+        venuePanel.add(capacityLabel);
+        
+        return venuePanel;
     }
     
     /**
@@ -368,7 +397,7 @@ public class VenueCarouselPanel extends JPanel {
             if (!isAnimating && venues.size() > 1) {
                 isAnimating = true;
                 slideRight = false;
-                animationStep = 0;
+                int previousIndex = currentVenueIndex;
                 
                 // Update current index
                 currentVenueIndex--;
@@ -377,7 +406,7 @@ public class VenueCarouselPanel extends JPanel {
                 }
                 
                 // Start animation
-                startAnimation();
+                startAnimation(previousIndex);
             }
         });
         
@@ -385,7 +414,7 @@ public class VenueCarouselPanel extends JPanel {
             if (!isAnimating && venues.size() > 1) {
                 isAnimating = true;
                 slideRight = true;
-                animationStep = 0;
+                int previousIndex = currentVenueIndex;
                 
                 // Update current index
                 currentVenueIndex++;
@@ -394,7 +423,7 @@ public class VenueCarouselPanel extends JPanel {
                 }
                 
                 // Start animation
-                startAnimation();
+                startAnimation(previousIndex);
             }
         });
         
@@ -448,35 +477,128 @@ public class VenueCarouselPanel extends JPanel {
         return button;
     }
     
+    /**
+     * Create the animation that drives the slide transition on the shared clock.
+     */
+    private void createSlideAnimation() {
+        slideAnimation = now -> {
+            long elapsed = now - animationStartTime;
+            if (elapsed >= ANIMATION_DURATION) {
+                // Animation complete
+                isAnimating = false;
+                
+                // Update UI
+                updateCarousel();
+                return false;
+            }
+            
+            // Update animation
+            updateAnimation((float) elapsed / ANIMATION_DURATION);
+            return true;
+        };
+    }
+    
     /**
      * Start the carousel animation.
+     * The outgoing and incoming venue cards are rendered into cached images once,
+     * so every frame of the slide is just two image blits.
      */
-    private void startAnimation() {
-        // Create sliding panel
-        slidingPanel = new JPanel(new GridLayout(1, 2));
-        slidingPanel.setOpaque(false);
+    private void startAnimation(int previousIndex) {
+        JPanel currentPanel = getVenuePanel(previousIndex);
+        JPanel nextPanel = getVenuePanel(currentVenueIndex);
+        int width = currentPanel.getWidth();
+        int height = currentPanel.getHeight();
+        
+        // Nothing on screen to animate, switch straight away
+        if (!isShowing() || width <= 0 || height <= 0) {
+            isAnimating = false;
+            updateCarousel();
+            return;
+        }
         
-        // Get current and next venue panels
-        JPanel currentPanel = venuePanels[currentVenueIndex];
+        // Make sure the incoming card is laid out at the same size as the visible one
+        if (!nextPanel.getBounds().equals(currentPanel.getBounds())) {
+            nextPanel.setBounds(currentPanel.getBounds());
+        }
+        nextPanel.validate();
+        
+        // Snapshot both cards
+        prepareSnapshots(width, height);
+        renderSnapshot(currentPanel, outgoingSnapshot);
+        renderSnapshot(nextPanel, incomingSnapshot);
+        
+        // Swap the transition card in and start the timer
+        transitionPanel.setProgress(0f);
+        cardLayout.show(carouselPanel, "transition");
+        animationStartTime = AnimationClock.now();
+        AnimationClock.getInstance().start(slideAnimation);
+    }
+    
+    /**
+     * Allocate the snapshot images, reusing the previous ones when the card size
+     * and screen scale have not changed.
+     */
+    private void prepareSnapshots(int width, int height) {
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        double scale = gc != null ? gc.getDefaultTransform().getScaleX() : 1.0;
+        int imageWidth = (int) Math.ceil(width * scale);
+        int imageHeight = (int) Math.ceil(height * scale);
+        
+        if (outgoingSnapshot != null && scale == snapshotScale
+                && outgoingSnapshot.getWidth(null) == imageWidth
+                && outgoingSnapshot.getHeight(null) == imageHeight) {
+            return;
+        }
+        
+        if (outgoingSnapshot != null) {
+            outgoingSnapshot.flush();
+            incomingSnapshot.flush();
+        }
+        
+        snapshotScale = scale;
+        if (gc != null) {
+            outgoingSnapshot = gc.createCompatibleImage(imageWidth, imageHeight, Transparency.OPAQUE);
+            incomingSnapshot = gc.createCompatibleImage(imageWidth, imageHeight, Transparency.OPAQUE);
+        } else {
+            outgoingSnapshot = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_RGB);
+            incomingSnapshot = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_RGB);
+        }
+    }
+    
+    /**
+     * Paint a venue card, over the carousel background, into a snapshot image.
+     */
+    private void renderSnapshot(JPanel panel, Image snapshot) {
+        Graphics2D g2d = (Graphics2D) snapshot.getGraphics();
+        g2d.scale(snapshotScale, snapshotScale);
+        
+        // Cards are translucent, so paint the carousel background underneath
+        g2d.setColor(carouselPanel.getBackground());
+        g2d.fillRect(0, 0, panel.getWidth(), panel.getHeight());
+        panel.paint(g2d);
         
-        // Start animation timer
-        animationTimer.start();
+        g2d.dispose();
     }
     
     /**
      * Update the animation.
      */
-    private void updateAnimation() {
-        // Repaint to show animation progress
-        repaint();
+    private void updateAnimation(float progress) {
+        // Ease out so the incoming card settles gently
+        float eased = 1f - (1f - progress) * (1f - progress);
+        transitionPanel.setProgress(eased);
+        
+        // Only the carousel card area is dirty
+        transitionPanel.repaint();
     }
     
     /**
      * Update the carousel display.
      */
     private void updateCarousel() {
-        // Show current venue
-        cardLayout.show(carouselPanel, "venue" + currentVenueIndex);
+        // Show current venue and get the next one ready
+        showVenueCard(currentVenueIndex);
+        prefetchNeighbour(slideRight);
         
         // Update page indicator
         pageIndicator.setText((currentVenueIndex + 1) + " of " + venues.size());
@@ -491,4 +613,35 @@ public class VenueCarouselPanel extends JPanel {
     private void updateRatePanel(Venue venue) {
         ratePanel.updateRates(venue.getRates(), venue.getName());
     }
-}
+    
+    /**
+     * Card that plays the slide between two cached venue snapshots.
+     */
+    private class SlideTransitionPanel extends JComponent {
+        private float progress;
+        
+        SlideTransitionPanel() {
+            setOpaque(true);
+        }
+        
+        void setProgress(float progress) {
+            this.progress = progress;
+        }
+        
+        @Override
+        protected void paintComponent(Graphics g) {
+            if (outgoingSnapshot == null || incomingSnapshot == null) {
+                return;
+            }
+            
+            int width = getWidth();
+            int height = getHeight();
+            int offset = Math.round(width * progress);
+            int direction = slideRight ? 1 : -1;
+            
+            // Outgoing card slides away while the incoming card follows it in
+            g.drawImage(outgoingSnapshot, -offset * direction, 0, width, height, null);
+            g.drawImage(incomingSnapshot, (width - offset) * direction, 0, width, height, null);
+        }
+    }
+}
\ No newline at end of file